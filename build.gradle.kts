@@ -10,13 +10,14 @@ plugins {
 	id("com.github.ben-manes.versions") version "0.47.0"
 	id("com.adarshr.test-logger") version "4.0.0"
 	id("io.sentry.jvm.gradle") version "4.1.0"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "hexlet.code"
 version = "0.0.1-SNAPSHOT"
 
 java {
-	sourceCompatibility = JavaVersion.VERSION_20
+	sourceCompatibility = JavaVersion.VERSION_21
 }
 
 application {
@@ -33,6 +34,14 @@ repositories {
 	mavenCentral()
 }
 
+val loadTest by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 extra["snippetsDir"] = file("build/generated-snippets")
 
 dependencies {
@@ -59,6 +68,15 @@ dependencies {
 	runtimeOnly("com.h2database:h2")
 	runtimeOnly("org.postgresql:postgresql")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("org.flywaydb:flyway-core")
+	implementation("org.ehcache:ehcache::jakarta")
+
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+	runtimeOnly("org.hibernate.orm:hibernate-micrometer")
+	implementation("net.ttddyy:datasource-proxy:1.10")
 
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.restdocs:spring-restdocs-mockmvc")
@@ -70,6 +88,8 @@ dependencies {
 	implementation("org.instancio:instancio-junit:3.3.0")
 
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
+
+	jmhRuntimeOnly("com.h2database:h2")
 }
 
 tasks.withType<Test> {
@@ -78,6 +98,7 @@ tasks.withType<Test> {
 
 tasks.test {
 	useJUnitPlatform()
+	systemProperty("spring.datasource.url", "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1")
 	finalizedBy(tasks.jacocoTestReport)
 }
 
@@ -88,6 +109,23 @@ tasks.jacocoTestReport {
 	}
 }
 
+jmh {
+	warmupIterations = 2
+	iterations = 5
+	fork = 1
+	resultFormat = "JSON"
+	includes = listOf(providers.gradleProperty("jmhIncludes").getOrElse(".*"))
+}
+
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Boots the application with seeded data and reports latency percentiles under constant load."
+	classpath = loadTest.runtimeClasspath
+	mainClass = "hexlet.code.loadtest.LoadTest"
+	systemProperty("loadTest.reportDir", layout.buildDirectory.dir("reports/load-test").get().asFile.path)
+	systemProperties(project.properties.filterKeys { it.startsWith("loadTest.") })
+}
+
 testlogger {
 	theme = ThemeType.MOCHA
 	showStandardStreams = true
@@ -0,0 +1,70 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.AppApplication;
+import hexlet.code.model.Task;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.UserUtils;
+import net.datafaker.Faker;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Boots the application once per benchmark JVM against an in-memory H2 database.
+ */
+public final class BenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkContext() {
+    }
+
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(AppApplication.class)
+                    .profiles("dev")
+                    .properties(
+                            "server.port=0",
+                            "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                            "spring.jpa.show-sql=false",
+                            "spring.h2.console.enabled=false",
+                            "logging.level.root=WARN",
+                            "logging.level.web=WARN",
+                            "sentry.dsn=")
+                    .run();
+            Runtime.getRuntime().addShutdownHook(new Thread(context::close));
+        }
+        return context;
+    }
+
+    public static synchronized void seedTasks(int count) {
+        var taskRepository = get().getBean(TaskRepository.class);
+        var existing = taskRepository.count();
+        if (existing >= count) {
+            return;
+        }
+
+        var faker = get().getBean(Faker.class);
+        var statuses = get().getBean(TaskStatusRepository.class).findAll();
+        var labels = get().getBean(LabelRepository.class).findAll();
+        var admin = get().getBean(UserRepository.class).findByEmail(UserUtils.ADMIN_EMAIL).orElseThrow();
+
+        var tasks = new ArrayList<Task>();
+        for (var i = existing; i < count; i++) {
+            var task = new Task();
+            task.setName(faker.lorem().sentence() + " #" + i);
+            task.setDescription(faker.lorem().paragraph());
+            task.setIndex(i);
+            task.setTaskStatus(statuses.get((int) (i % statuses.size())));
+            task.setAssignee(admin);
+            task.setLabels(new HashSet<>(labels.subList(0, (int) (i % (labels.size() + 1)))));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+    }
+}
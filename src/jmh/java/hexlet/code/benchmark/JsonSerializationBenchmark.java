@@ -0,0 +1,44 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.dto.taskDto.TaskParamsDTO;
+import hexlet.code.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<TaskDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        BenchmarkContext.seedTasks(size);
+        // The application mapper is built from JacksonConfig, so JsonNullableModule is installed
+        objectMapper = BenchmarkContext.get().getBean(ObjectMapper.class);
+        tasks = BenchmarkContext.get().getBean(TaskService.class).getAll(new TaskParamsDTO()).subList(0, size);
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,62 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.component.RsaKeyProperties;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
+import hexlet.code.util.UserUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JWTUtils jwtUtils;
+
+    private User admin;
+
+    private String token;
+
+    private JwtDecoder cachedDecoder;
+
+    private JwtDecoder uncachedDecoder;
+
+    @Setup
+    public void setUp() {
+        var context = BenchmarkContext.get();
+        jwtUtils = context.getBean(JWTUtils.class);
+        admin = context.getBean(UserRepository.class).findByEmail(UserUtils.ADMIN_EMAIL).orElseThrow();
+        token = jwtUtils.generateToken(admin.getUsername(), admin.getId());
+
+        cachedDecoder = context.getBean(JwtDecoder.class);
+        uncachedDecoder = NimbusJwtDecoder.withPublicKey(context.getBean(RsaKeyProperties.class).getPublicKey())
+                .build();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(admin.getUsername(), admin.getId());
+    }
+
+    @Benchmark
+    public Jwt decodeUncached() {
+        return uncachedDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeCached() {
+        return cachedDecoder.decode(token);
+    }
+}
@@ -0,0 +1,61 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.component.PasswordHashingProperties;
+import hexlet.code.util.BoundedPasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "qwerty";
+
+    @Param({"10"})
+    private int strength;
+
+    private BCryptPasswordEncoder bcrypt;
+
+    private BoundedPasswordEncoder bounded;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        var properties = new PasswordHashingProperties();
+        bcrypt = new BCryptPasswordEncoder(strength);
+        bounded = new BoundedPasswordEncoder(
+                bcrypt,
+                Runtime.getRuntime().availableProcessors(),
+                properties.getQueueCapacity(),
+                properties.getTimeout(),
+                properties.getRetryAfter());
+        hash = bcrypt.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bounded.destroy();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return bcrypt.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean matchesOnBoundedPool() {
+        return bounded.matches(PASSWORD, hash);
+    }
+}
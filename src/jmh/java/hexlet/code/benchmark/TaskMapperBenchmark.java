@@ -0,0 +1,57 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.taskDto.TaskCreateDTO;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMapperBenchmark {
+
+    private TaskMapper taskMapper;
+
+    private Task task;
+
+    private TaskCreateDTO createDto;
+
+    @Setup
+    public void setUp() {
+        BenchmarkContext.seedTasks(TaskQueryBenchmark.DEFAULT_TASKS);
+        taskMapper = BenchmarkContext.get().getBean(TaskMapper.class);
+        task = BenchmarkContext.get().getBean(TaskRepository.class).findAll().stream()
+                .max(Comparator.comparingInt(candidate -> candidate.getLabels().size()))
+                .orElseThrow();
+
+        createDto = new TaskCreateDTO();
+        createDto.setTitle(task.getName());
+        createDto.setContent(task.getDescription());
+        createDto.setIndex(task.getIndex());
+        createDto.setAssigneeId(task.getAssignee().getId());
+        createDto.setStatus(task.getTaskStatus().getSlug());
+        createDto.setTaskLabelIds(task.getLabels().stream().map(Label::getId).toList());
+    }
+
+    @Benchmark
+    public TaskDTO mapToDto() {
+        return taskMapper.map(task);
+    }
+
+    @Benchmark
+    public Task mapFromCreateDto() {
+        return taskMapper.map(createDto);
+    }
+}
@@ -0,0 +1,91 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.taskDto.TaskCursor;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.dto.taskDto.TaskPageDTO;
+import hexlet.code.dto.taskDto.TaskParamsDTO;
+import hexlet.code.model.Task;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskService;
+import hexlet.code.specification.TaskSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskQueryBenchmark {
+
+    public static final int DEFAULT_TASKS = 1000;
+
+    @Param({"1000"})
+    private int tasks;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private TaskSpecification taskSpecification;
+
+    private TaskRepository taskRepository;
+
+    private TaskService taskService;
+
+    private TaskParamsDTO byTitle;
+
+    private TaskParamsDTO byStatusAndLabel;
+
+    private TaskParamsDTO page;
+
+    @Setup
+    public void setUp() {
+        BenchmarkContext.seedTasks(tasks);
+        var context = BenchmarkContext.get();
+        taskSpecification = context.getBean(TaskSpecification.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskService = context.getBean(TaskService.class);
+
+        var sample = taskRepository.findAll().get(0);
+        var label = context.getBean(LabelRepository.class).findAll().get(0);
+
+        byTitle = new TaskParamsDTO();
+        byTitle.setTitleCont(sample.getName().substring(0, sample.getName().indexOf(' ')));
+
+        byStatusAndLabel = new TaskParamsDTO();
+        byStatusAndLabel.setStatus(sample.getTaskStatus().getSlug());
+        byStatusAndLabel.setLabelId(label.getId());
+
+        page = new TaskParamsDTO();
+        page.setLimit(pageSize);
+    }
+
+    @Benchmark
+    public Specification<Task> buildSpecification() {
+        return taskSpecification.build(byStatusAndLabel);
+    }
+
+    @Benchmark
+    public List<TaskDTO> findByTitle() {
+        return taskRepository.findAllAsDto(taskSpecification.build(byTitle), TaskCursor.SORT, null);
+    }
+
+    @Benchmark
+    public List<TaskDTO> findByStatusAndLabel() {
+        return taskRepository.findAllAsDto(taskSpecification.build(byStatusAndLabel), TaskCursor.SORT, null);
+    }
+
+    @Benchmark
+    public TaskPageDTO firstPage() {
+        return taskService.getPage(page);
+    }
+}
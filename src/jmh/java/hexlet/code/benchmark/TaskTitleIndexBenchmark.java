@@ -0,0 +1,62 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.component.SearchProperties;
+import hexlet.code.component.TaskTitleIndex;
+import hexlet.code.dto.taskDto.TaskCursor;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.dto.taskDto.TaskParamsDTO;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.specification.TaskSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// titleCont through the same specification and projection query as GET /api/tasks, at growing table sizes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskTitleIndexBenchmark {
+
+    @Param({"1000", "100000"})
+    private int tasks;
+
+    @Param({"true", "false"})
+    private boolean ngramIndex;
+
+    private TaskSpecification taskSpecification;
+
+    private TaskRepository taskRepository;
+
+    private TaskParamsDTO selective;
+
+    @Setup
+    public void setUp() {
+        BenchmarkContext.seedTasks(tasks);
+        var context = BenchmarkContext.get();
+        taskRepository = context.getBean(TaskRepository.class);
+
+        // Own index and properties, so the shared context keeps its configured search mode
+        var searchProperties = new SearchProperties();
+        searchProperties.setNgramIndex(ngramIndex);
+        var taskTitleIndex = new TaskTitleIndex(taskRepository, searchProperties);
+        taskTitleIndex.rebuild();
+        taskSpecification = new TaskSpecification(taskTitleIndex);
+
+        // Seeded names end with " #<n>", so this matches a handful of rows at any table size
+        selective = new TaskParamsDTO();
+        selective.setTitleCont("#" + tasks / 2);
+    }
+
+    @Benchmark
+    public List<TaskDTO> findByTitle() {
+        return taskRepository.findAllAsDto(taskSpecification.build(selective), TaskCursor.SORT, null);
+    }
+}
@@ -0,0 +1,57 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.model.Task;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.UserUtils;
+import jakarta.persistence.EntityManager;
+import net.datafaker.Faker;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+public final class DataSeeder {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private DataSeeder() {
+    }
+
+    // Returns the ids of the seeded tasks
+    public static List<Long> seed(ApplicationContext context, int count) {
+        var faker = context.getBean(Faker.class);
+        var taskRepository = context.getBean(TaskRepository.class);
+        var entityManager = context.getBean(EntityManager.class);
+        var transactionTemplate = context.getBean(TransactionTemplate.class);
+        var statuses = context.getBean(TaskStatusRepository.class).findAll();
+        var labels = context.getBean(LabelRepository.class).findAll();
+        var admin = context.getBean(UserRepository.class).findByEmail(UserUtils.ADMIN_EMAIL).orElseThrow();
+
+        var ids = new ArrayList<Long>(count);
+        for (var start = 0; start < count; start += CHUNK_SIZE) {
+            var end = Math.min(start + CHUNK_SIZE, count);
+            var chunkStart = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (var i = chunkStart; i < end; i++) {
+                    var task = new Task();
+                    task.setName(faker.lorem().sentence() + " #" + i);
+                    task.setDescription(faker.lorem().paragraph());
+                    task.setIndex((long) i);
+                    task.setTaskStatus(statuses.get(i % statuses.size()));
+                    task.setAssignee(admin);
+                    task.setLabels(new HashSet<>(labels.subList(0, i % (labels.size() + 1))));
+                    taskRepository.save(task);
+                    ids.add(task.getId());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,71 @@
+package hexlet.code.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects per-request latencies of one endpoint. Latency is measured from the intended
+ * start time of the request, so a slow server cannot hide queueing delay.
+ */
+public final class LatencyRecorder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private long[] latencies = new long[INITIAL_CAPACITY];
+
+    private int count;
+
+    private int errors;
+
+    public synchronized void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public void addAll(LatencyRecorder other) {
+        long[] otherLatencies;
+        int otherCount;
+        int otherErrors;
+        synchronized (other) {
+            otherLatencies = Arrays.copyOf(other.latencies, other.count);
+            otherCount = other.count;
+            otherErrors = other.errors;
+        }
+        synchronized (this) {
+            if (count + otherCount > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(count + otherCount, count * 2));
+            }
+            System.arraycopy(otherLatencies, 0, latencies, count, otherCount);
+            count += otherCount;
+            errors += otherErrors;
+        }
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    public synchronized double percentileMillis(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        var sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        var rank = (int) Math.ceil(quantile * count) - 1;
+        return sorted[Math.max(rank, 0)] / NANOS_PER_MILLI;
+    }
+
+    public synchronized double maxMillis() {
+        return percentileMillis(1);
+    }
+}
@@ -0,0 +1,86 @@
+package hexlet.code.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started at a constant arrival rate regardless of
+ * how quickly earlier ones complete, each on its own virtual thread.
+ */
+public final class LoadGenerator {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final int CLIENT_ERROR = 400;
+
+    private final HttpClient client;
+
+    private final List<Scenario> scenarios;
+
+    private final int totalWeight;
+
+    public LoadGenerator(HttpClient client, List<Scenario> scenarios) {
+        this.client = client;
+        this.scenarios = scenarios;
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    public Map<String, LatencyRecorder> run(int rate, Duration duration) {
+        var recorders = new LinkedHashMap<String, LatencyRecorder>();
+        scenarios.forEach(scenario -> recorders.put(scenario.name(), new LatencyRecorder()));
+
+        var period = NANOS_PER_SECOND / rate;
+        var requests = duration.toNanos() / period;
+        var start = System.nanoTime();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                var intendedStart = start + i * period;
+                var delay = intendedStart - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                var scenario = pick();
+                var recorder = recorders.get(scenario.name());
+                executor.submit(() -> execute(scenario, recorder, intendedStart));
+            }
+        }
+        return recorders;
+    }
+
+    private void execute(Scenario scenario, LatencyRecorder recorder, long intendedStart) {
+        var request = scenario.request().get();
+        if (request == null) {
+            return;
+        }
+        boolean success;
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() < CLIENT_ERROR;
+            if (success) {
+                scenario.onSuccess().accept(response.body());
+            }
+        } catch (Exception e) {
+            success = false;
+        }
+        recorder.record(System.nanoTime() - intendedStart, success);
+    }
+
+    private Scenario pick() {
+        var value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (var scenario : scenarios) {
+            value -= scenario.weight();
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+}
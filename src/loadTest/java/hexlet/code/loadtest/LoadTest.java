@@ -0,0 +1,282 @@
+package hexlet.code.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.AppApplication;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.UserUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application, seeds it with tasks and drives a constant arrival rate of requests
+ * against the task, login and CRUD endpoints, then writes latency percentiles per endpoint.
+ * With loadTest.compare it repeats the run once per thread mode against the same seeded database.
+ */
+public final class LoadTest {
+
+    private static final double P50 = 0.50;
+    private static final double P95 = 0.95;
+    private static final double P99 = 0.99;
+
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final int LIST_WEIGHT = 30;
+    private static final int SEARCH_WEIGHT = 10;
+    private static final int SHOW_WEIGHT = 25;
+    private static final int CREATE_WEIGHT = 10;
+    private static final int UPDATE_WEIGHT = 10;
+    private static final int DELETE_WEIGHT = 5;
+    private static final int LOGIN_WEIGHT = 5;
+
+    private static final String PLATFORM = "platform";
+
+    private static final String VIRTUAL = "virtual";
+
+    private final LoadTestSettings settings;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private final AtomicLong createdCounter = new AtomicLong();
+
+    private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    private String baseUrl;
+
+    private String token;
+
+    private List<Long> seededIds;
+
+    private LoadTest(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(LoadTestSettings.fromSystemProperties()).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        if (settings.compare().isEmpty()) {
+            writeReport(settings.profiles(), runOnce(settings.profiles()));
+            return;
+        }
+
+        var profiles = List.of(settings.profiles().split(","));
+        if (profiles.contains(VIRTUAL)) {
+            throw new IllegalArgumentException("loadTest.profiles must not contain '" + VIRTUAL
+                    + "' when loadTest.compare selects the thread mode");
+        }
+
+        var totals = new LinkedHashMap<String, LatencyRecorder>();
+        for (var mode : settings.compare()) {
+            var modeProfiles = switch (mode) {
+                case PLATFORM -> settings.profiles();
+                case VIRTUAL -> settings.profiles() + "," + VIRTUAL;
+                default -> throw new IllegalArgumentException("Unknown thread mode: " + mode);
+            };
+            var results = runOnce(modeProfiles);
+            writeReport(modeProfiles, results);
+
+            var total = new LatencyRecorder();
+            results.values().forEach(total::addAll);
+            totals.put(mode, total);
+        }
+        writeComparison(totals);
+    }
+
+    // Seeds on the first run only, so every mode is measured against the same rows
+    private Map<String, LatencyRecorder> runOnce(String profiles) throws Exception {
+        try (var context = new SpringApplicationBuilder(AppApplication.class)
+                .profiles(profiles.split(","))
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + settings.dbUrl(),
+                        "spring.datasource.username=" + settings.dbUsername(),
+                        "spring.datasource.password=" + settings.dbPassword(),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.web=WARN",
+                        "sentry.dsn=")
+                .run()) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+
+            if (seededIds == null) {
+                System.out.printf("Seeding %d tasks%n", settings.tasks());
+                seededIds = DataSeeder.seed(context, settings.tasks());
+            }
+            token = login();
+
+            var generator = new LoadGenerator(client, scenarios());
+            if (!settings.warmup().isZero()) {
+                System.out.printf("Warming up for %s%n", settings.warmup());
+                generator.run(settings.rate(), settings.warmup());
+            }
+
+            System.out.printf("Running %d req/s for %s with profiles %s%n",
+                    settings.rate(), settings.duration(), profiles);
+            var results = generator.run(settings.rate(), settings.duration());
+
+            // Tasks created and not deleted during the run would give the next mode a larger table
+            context.getBean(TaskRepository.class).deleteAllById(List.copyOf(createdIds));
+            createdIds.clear();
+            return results;
+        }
+    }
+
+    private List<Scenario> scenarios() {
+        return List.of(
+                new Scenario("GET /api/tasks?limit", LIST_WEIGHT,
+                        () -> get("/api/tasks?limit=" + PAGE_SIZE)),
+                new Scenario("GET /api/tasks?titleCont", SEARCH_WEIGHT,
+                        () -> get("/api/tasks?limit=" + PAGE_SIZE + "&titleCont=" + randomWord())),
+                new Scenario("GET /api/tasks/{id}", SHOW_WEIGHT,
+                        () -> get("/api/tasks/" + randomSeededId())),
+                new Scenario("POST /api/tasks", CREATE_WEIGHT,
+                        () -> post("/api/tasks", taskBody("load test task " + createdCounter.incrementAndGet())),
+                        this::rememberCreated),
+                new Scenario("PUT /api/tasks/{id}", UPDATE_WEIGHT,
+                        () -> put("/api/tasks/" + randomSeededId(), Map.of("content", randomWord()))),
+                new Scenario("DELETE /api/tasks/{id}", DELETE_WEIGHT, this::deleteCreated),
+                new Scenario("POST /api/login", LOGIN_WEIGHT,
+                        () -> request("/api/login").POST(json(credentials())).build()));
+    }
+
+    private String login() throws IOException, InterruptedException {
+        var response = client.send(
+                request("/api/login").POST(json(credentials())).build(),
+                HttpResponse.BodyHandlers.ofString());
+        return response.body();
+    }
+
+    private Map<String, String> credentials() {
+        return Map.of("username", UserUtils.ADMIN_EMAIL, "password", UserUtils.ADMIN_PASSWORD);
+    }
+
+    private Map<String, Object> taskBody(String title) {
+        return Map.of("title", title, "status", "draft");
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            createdIds.add(objectMapper.readTree(body).get("id").asLong());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest deleteCreated() {
+        var id = createdIds.poll();
+        return id == null ? null : authorized("/api/tasks/" + id).DELETE().build();
+    }
+
+    private Long randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+
+    private String randomWord() {
+        var words = List.of("quia", "dolor", "amet", "tempora", "velit", "magnam");
+        return words.get(ThreadLocalRandom.current().nextInt(words.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        return authorized(path).POST(json(body)).build();
+    }
+
+    private HttpRequest put(String path, Object body) {
+        return authorized(path).PUT(json(body)).build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return request(path).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMinutes(1));
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeReport(String profiles, Map<String, LatencyRecorder> results) throws IOException {
+        var seconds = settings.duration().toMillis() / MILLIS_PER_SECOND;
+        var report = new StringBuilder();
+        report.append(String.format("Tasks: %d, rate: %d req/s, duration: %s, profiles: %s, database: %s%n%n",
+                settings.tasks(), settings.rate(), settings.duration(), profiles, settings.dbUrl()));
+        report.append(String.format("%-28s %8s %8s %10s %10s %10s %10s %12s%n",
+                "endpoint", "count", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms", "req/s"));
+        results.forEach((name, recorder) -> report.append(String.format(
+                "%-28s %8d %8d %10.2f %10.2f %10.2f %10.2f %12.1f%n",
+                name,
+                recorder.getCount(),
+                recorder.getErrors(),
+                recorder.percentileMillis(P50),
+                recorder.percentileMillis(P95),
+                recorder.percentileMillis(P99),
+                recorder.maxMillis(),
+                recorder.getCount() / seconds)));
+
+        write("load-test-" + settings.tasks() + "-" + profiles.replace(',', '-'), report);
+    }
+
+    // Throughput counts successful responses only, so it falls behind the offered rate once a mode saturates
+    private void writeComparison(Map<String, LatencyRecorder> totals) throws IOException {
+        var seconds = settings.duration().toMillis() / MILLIS_PER_SECOND;
+        var report = new StringBuilder();
+        report.append(String.format("Tasks: %d, offered rate: %d req/s, duration: %s, profiles: %s, database: %s%n%n",
+                settings.tasks(), settings.rate(), settings.duration(), settings.profiles(), settings.dbUrl()));
+        report.append(String.format("%-10s %8s %8s %10s %10s %12s%n",
+                "threads", "count", "errors", "p50 ms", "p99 ms", "ok req/s"));
+        totals.forEach((mode, recorder) -> report.append(String.format(
+                "%-10s %8d %8d %10.2f %10.2f %12.1f%n",
+                mode,
+                recorder.getCount(),
+                recorder.getErrors(),
+                recorder.percentileMillis(P50),
+                recorder.percentileMillis(P99),
+                (recorder.getCount() - recorder.getErrors()) / seconds)));
+
+        write("load-test-compare-" + settings.tasks(), report);
+    }
+
+    private void write(String name, CharSequence report) throws IOException {
+        Files.createDirectories(settings.reportDir());
+        var timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        var file = settings.reportDir().resolve(name + "-" + timestamp + ".txt");
+        Files.writeString(file, report);
+
+        System.out.print(report);
+        System.out.printf("%nReport written to %s%n", file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,48 @@
+package hexlet.code.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+public record LoadTestSettings(
+        int tasks,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        String profiles,
+        List<String> compare,
+        String dbUrl,
+        String dbUsername,
+        String dbPassword,
+        Path reportDir) {
+
+    public static final String PREFIX = "loadTest.";
+
+    private static final String DEFAULT_TASKS = "1000";
+    private static final String DEFAULT_RATE = "100";
+    private static final String DEFAULT_DURATION = "PT60S";
+    private static final String DEFAULT_WARMUP = "PT10S";
+    private static final String DEFAULT_DB_URL = "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1";
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.parseInt(property("tasks", DEFAULT_TASKS)),
+                Integer.parseInt(property("rate", DEFAULT_RATE)),
+                Duration.parse(property("duration", DEFAULT_DURATION)),
+                Duration.parse(property("warmup", DEFAULT_WARMUP)),
+                property("profiles", "dev"),
+                Arrays.stream(property("compare", "").split(","))
+                        .map(String::trim)
+                        .filter(mode -> !mode.isEmpty())
+                        .toList(),
+                property("dbUrl", DEFAULT_DB_URL),
+                property("dbUsername", ""),
+                property("dbPassword", ""),
+                Path.of(property("reportDir", "build/reports/load-test")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
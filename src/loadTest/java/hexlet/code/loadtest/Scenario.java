@@ -0,0 +1,13 @@
+package hexlet.code.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// A null request means the scenario has nothing to do right now and is skipped
+public record Scenario(String name, int weight, Supplier<HttpRequest> request, Consumer<String> onSuccess) {
+
+    public Scenario(String name, int weight, Supplier<HttpRequest> request) {
+        this(name, weight, request, body -> { });
+    }
+}
@@ -5,10 +5,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import io.sentry.Sentry;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class AppApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,140 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.VersionView;
+import hexlet.code.exception.PreconditionFailedException;
+import hexlet.code.repository.ChangeStampRepository;
+import hexlet.code.repository.ChangeStampRepository.Stamp;
+import jakarta.persistence.Table;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ETag;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ETag and Last-Modified for responses built from whole tables. Each table is stamped with its
+ * row count and latest updated_at: an insert or update moves the latest updated_at and a delete
+ * changes the count, so an unchanged collection can be answered with 304 after one aggregate
+ * query, and every instance sharing the database hands out the same validators without any
+ * write having to maintain them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeStamps {
+
+    private static final char ROW_VERSION_SEPARATOR = '-';
+
+    private static final Stamp UNCHANGED = new Stamp(0, Instant.EPOCH);
+
+    private final ChangeStampRepository changeStampRepository;
+
+    // Sets ETag and Last-Modified and answers true when the client's copy is still current
+    public boolean checkNotModified(ServletWebRequest request, Class<?>... types) {
+        var servletRequest = request.getRequest();
+        var resource = servletRequest.getRequestURI() + "?" + servletRequest.getQueryString();
+        var stamps = findStamps(types);
+        return request.checkNotModified(etag(stamps, resource, types), lastModified(stamps, types).toEpochMilli());
+    }
+
+    public boolean checkNotModified(ServletWebRequest request, VersionView row, Class<?>... dependencies) {
+        var stamps = findStamps(dependencies);
+        var lastModified = lastModified(stamps, dependencies);
+        if (row.getUpdatedAt() != null) {
+            var rowModified = row.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant();
+            lastModified = rowModified.isAfter(lastModified) ? rowModified : lastModified;
+        }
+        var etag = rowEtag(stamps, request.getRequest().getRequestURI(), row.getVersion(), dependencies);
+        return request.checkNotModified(etag, lastModified.toEpochMilli());
+    }
+
+    // Row ETags start with the row version, so If-Match can be checked against the version alone
+    public String rowEtag(String resource, long version, Class<?>... dependencies) {
+        var stamps = findStamps(dependencies);
+        return rowEtag(stamps, resource, version, dependencies);
+    }
+
+    // The row versions named by an If-Match list, or empty for "*". Weak tags and tags that are
+    // not row ETags, such as a bare number, name no version, so they never match.
+    public static Optional<Set<Long>> parseIfMatch(String ifMatch) {
+        var etags = ETag.parse(ifMatch);
+        if (etags.isEmpty()) {
+            throw new PreconditionFailedException("Malformed If-Match header");
+        }
+        if (etags.stream().anyMatch(ETag::isWildcard)) {
+            return Optional.empty();
+        }
+        var versions = new HashSet<Long>();
+        for (var etag : etags) {
+            if (!etag.isWeak()) {
+                parseVersion(etag.tag()).ifPresent(versions::add);
+            }
+        }
+        return Optional.of(versions);
+    }
+
+    private static Optional<Long> parseVersion(String tag) {
+        var separator = tag.indexOf(ROW_VERSION_SEPARATOR);
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(tag.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, Stamp> findStamps(Class<?>... types) {
+        if (types.length == 0) {
+            return Map.of();
+        }
+        var tables = Arrays.stream(types)
+                .map(ChangeStamps::table)
+                .toList();
+        return changeStampRepository.findAll(tables);
+    }
+
+    private String rowEtag(Map<String, Stamp> stamps, String resource, long version, Class<?>... dependencies) {
+        return "\"" + version + ROW_VERSION_SEPARATOR + digest(stamps, resource, dependencies) + "\"";
+    }
+
+    private String etag(Map<String, Stamp> stamps, String resource, Class<?>... types) {
+        return "\"" + digest(stamps, resource, types) + "\"";
+    }
+
+    private String digest(Map<String, Stamp> stamps, String resource, Class<?>... types) {
+        var parts = Arrays.stream(types)
+                .map(type -> {
+                    var stamp = stamp(stamps, type);
+                    return table(type) + "=" + stamp.count() + "@" + stamp.changedAt();
+                })
+                .collect(Collectors.joining(","));
+        var source = parts + "|" + resource;
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Instant lastModified(Map<String, Stamp> stamps, Class<?>... types) {
+        return Arrays.stream(types)
+                .map(type -> stamp(stamps, type).changedAt())
+                .max(Instant::compareTo)
+                .orElse(Instant.EPOCH);
+    }
+
+    private Stamp stamp(Map<String, Stamp> stamps, Class<?> type) {
+        return stamps.getOrDefault(table(type), UNCHANGED);
+    }
+
+    private static String table(Class<?> type) {
+        return type.getAnnotation(Table.class).name();
+    }
+}
@@ -0,0 +1,22 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "count")
+@Getter
+@Setter
+public class CountProperties {
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(5);
+    private static final int DEFAULT_CACHE_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_ESTIMATE_THRESHOLD = 100_000;
+
+    private Duration cacheTtl = DEFAULT_CACHE_TTL;
+    private int cacheMaxEntries = DEFAULT_CACHE_MAX_ENTRIES;
+    private long estimateThreshold = DEFAULT_ESTIMATE_THRESHOLD;
+}
@@ -2,6 +2,7 @@ package hexlet.code.component;
 
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
 import hexlet.code.service.CustomUserDetailsService;
 import hexlet.code.util.LabelUtils;
 import hexlet.code.util.TaskStatusUtils;
@@ -19,6 +20,8 @@ public class DataInitializer implements ApplicationRunner {
 
     private final LabelRepository labelRepository;
 
+    private final UserRepository userRepository;
+
     private final CustomUserDetailsService userService;
 
     private final UserUtils userUtils;
@@ -29,19 +32,26 @@ public class DataInitializer implements ApplicationRunner {
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
+        // The schema is no longer recreated on start, so only missing defaults are added
         var admin = userUtils.getAdmin();
-        userService.createUser(admin);
+        if (userRepository.findByEmail(admin.getEmail()).isEmpty()) {
+            userService.createUser(admin);
+        }
 
         var defaultTaskStatuses = taskStatusUtils.getDefaultTaskStatuses();
 
         for (var status: defaultTaskStatuses) {
-            taskStatusRepository.save(status);
+            if (taskStatusRepository.findBySlug(status.getSlug()).isEmpty()) {
+                taskStatusRepository.save(status);
+            }
         }
 
         var defaultLabels = labelUtils.getDefaultLabels();
 
         for (var label: defaultLabels) {
-            labelRepository.save(label);
+            if (labelRepository.findByName(label.getName()).isEmpty()) {
+                labelRepository.save(label);
+            }
         }
     }
 }
@@ -0,0 +1,36 @@
+package hexlet.code.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+// The database behind the DataSource, for the statements plain JDBC code phrases per vendor
+@Component
+@RequiredArgsConstructor
+public class DatabaseDialect {
+
+    public static final String POSTGRESQL = "PostgreSQL";
+
+    public static final String H2 = "H2";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String product;
+
+    // The product name as reported by the JDBC driver, read once on first use
+    public String getProduct() {
+        if (product == null) {
+            var name = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            product = Objects.requireNonNullElse(name, "");
+        }
+        return product;
+    }
+
+    public boolean isPostgresql() {
+        return POSTGRESQL.equals(getProduct());
+    }
+}
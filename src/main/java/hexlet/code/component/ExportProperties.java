@@ -0,0 +1,16 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "export")
+@Getter
+@Setter
+public class ExportProperties {
+    private static final int DEFAULT_FETCH_SIZE = 500;
+
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+}
@@ -0,0 +1,43 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events as JSON lines to a local file, one write and fsync per batch.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileOutboxSink implements OutboxSink {
+
+    private final OutboxProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) throws IOException {
+        var builder = new StringBuilder();
+        for (var event : events) {
+            builder.append(objectMapper.writeValueAsString(event)).append('\n');
+        }
+
+        var file = properties.getFile().toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            var buffer = StandardCharsets.UTF_8.encode(builder.toString());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package hexlet.code.component;
+
+import hexlet.code.util.TimeOrderedIdFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Deployments may run several instances, so each of them has to be given its own id node
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdNodeInitializer implements InitializingBean {
+
+    private static final Profiles SINGLE_INSTANCE = Profiles.of("dev | test");
+
+    private final IdNodeProperties properties;
+
+    private final Environment environment;
+
+    @Override
+    public void afterPropertiesSet() {
+        var node = properties.getNode();
+        if (node != null) {
+            TimeOrderedIdFactory.initDefault(node);
+            return;
+        }
+        if (!environment.acceptsProfiles(SINGLE_INSTANCE)) {
+            throw new IllegalStateException("Set a distinct id.node (ID_NODE) between 0 and "
+                    + TimeOrderedIdFactory.MAX_NODE + " for every instance");
+        }
+        // Two instances without a node share one with a probability of 1 in 32 and may issue equal ids
+        var randomNode = ThreadLocalRandom.current().nextInt(TimeOrderedIdFactory.MAX_NODE + 1);
+        TimeOrderedIdFactory.initDefault(randomNode);
+        log.warn("No id node configured, using random node {}", randomNode);
+    }
+}
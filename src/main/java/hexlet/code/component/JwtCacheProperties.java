@@ -0,0 +1,21 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "jwt-cache")
+@Getter
+@Setter
+public class JwtCacheProperties {
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_MAX_TTL = Duration.ofHours(1);
+
+    private boolean enabled = true;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private Duration maxTtl = DEFAULT_MAX_TTL;
+}
@@ -0,0 +1,130 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.OutboxEvent;
+import hexlet.code.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox into the {@link OutboxSink} from the shared scheduler, one poll at a time. Full batches are sent
+ * as soon as they are available, a partial batch once its oldest event has waited for the linger time.
+ * Each batch is claimed, sent and deleted in one transaction, so its rows stay locked while the sink
+ * works and are deleted only after the sink accepted them. Delivery is at least once.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher implements DisposableBean {
+
+    private final OutboxRepository outboxRepository;
+
+    private final OutboxSink sink;
+
+    private final OutboxProperties properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong dispatched = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile long retryAt = System.nanoTime();
+
+    private volatile boolean stopped;
+
+    // Sends everything that is pending regardless of the linger time and returns the number of events sent
+    public synchronized int dispatchAll() {
+        var total = 0;
+        var sent = sendBatch(false);
+        while (sent > 0) {
+            total += sent;
+            sent = sendBatch(false);
+        }
+        return total;
+    }
+
+    public long getDispatched() {
+        return dispatched.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    @Override
+    public void destroy() {
+        stopped = true;
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            dispatchAll();
+        } catch (Exception e) {
+            log.warn("Outbox events left undelivered at shutdown: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "#{@outboxProperties.linger.toMillis()}",
+            initialDelayString = "#{@outboxProperties.linger.toMillis()}")
+    private synchronized void poll() {
+        if (!properties.isEnabled() || stopped || System.nanoTime() - retryAt < 0) {
+            return;
+        }
+        try {
+            var sent = sendBatch(true);
+            while (sent > 0) {
+                sent = sendBatch(true);
+            }
+        } catch (RuntimeException e) {
+            retryAt = System.nanoTime() + properties.getRetryBackoff().toNanos();
+            log.warn("Outbox dispatch failed, retrying in {}: {}", properties.getRetryBackoff(), e.getMessage());
+        }
+    }
+
+    private boolean isReady(List<OutboxEvent> batch) {
+        if (batch.size() >= properties.getBatchSize()) {
+            return true;
+        }
+        var lingeredSince = LocalDateTime.now().minus(properties.getLinger());
+        return !batch.get(0).occurredAt().isAfter(lingeredSince);
+    }
+
+    // Returns the number of events sent; a failed batch is rolled back and stays in the outbox
+    private int sendBatch(boolean onlyWhenReady) {
+        try {
+            var sent = transactionTemplate.execute(status -> {
+                var batch = outboxRepository.claimOldest(properties.getBatchSize());
+                if (batch.isEmpty() || onlyWhenReady && !isReady(batch)) {
+                    return 0;
+                }
+                publish(batch);
+                outboxRepository.delete(batch);
+                return batch.size();
+            });
+            dispatched.addAndGet(sent);
+            return sent;
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            throw e;
+        }
+    }
+
+    private void publish(List<OutboxEvent> batch) {
+        try {
+            sink.publish(batch);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox sink failed: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package hexlet.code.component;
+
+import hexlet.code.model.VersionedEntity;
+import hexlet.code.repository.OutboxRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class OutboxListener {
+
+    public static final String CREATED = "created";
+
+    public static final String UPDATED = "updated";
+
+    public static final String DELETED = "deleted";
+
+    private final ObjectProvider<OutboxRepository> outboxRepository;
+
+    private final ObjectProvider<OutboxProperties> properties;
+
+    @PostPersist
+    public void onCreate(Object entity) {
+        append(entity, CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        append(entity, UPDATED);
+    }
+
+    @PostRemove
+    public void onDelete(Object entity) {
+        append(entity, DELETED);
+    }
+
+    private void append(Object entity, String eventType) {
+        if (!properties.getObject().isEnabled()) {
+            return;
+        }
+        var versioned = (VersionedEntity) entity;
+        outboxRepository.getObject().append(
+                Hibernate.getClass(entity).getSimpleName(),
+                versioned.getId(),
+                eventType,
+                versioned.getVersion());
+    }
+}
@@ -0,0 +1,25 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final Duration DEFAULT_LINGER = Duration.ofMillis(200);
+    private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    private boolean enabled = true;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private Duration linger = DEFAULT_LINGER;
+    private Duration retryBackoff = DEFAULT_RETRY_BACKOFF;
+    private Path file = Path.of("outbox", "events.jsonl");
+}
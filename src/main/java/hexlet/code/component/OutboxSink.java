@@ -0,0 +1,10 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxSink {
+    // Must either deliver the whole batch or throw; the batch is redelivered after a failure
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,30 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+    private static final int DEFAULT_STRENGTH = 10;
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private int strength = DEFAULT_STRENGTH;
+
+    // 0 means one thread per available processor
+    private int threads;
+
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    private Duration timeout = DEFAULT_TIMEOUT;
+
+    private Duration retryAfter = DEFAULT_RETRY_AFTER;
+}
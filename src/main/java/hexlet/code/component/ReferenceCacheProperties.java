@@ -0,0 +1,20 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "reference-cache")
+@Getter
+@Setter
+public class ReferenceCacheProperties {
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private Duration ttl = DEFAULT_TTL;
+}
@@ -0,0 +1,172 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.labelDto.LabelDTO;
+import hexlet.code.dto.taskStatusDto.TaskStatusDTO;
+import hexlet.code.mapper.LabelMapper;
+import hexlet.code.mapper.TaskStatusMapper;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.util.LruCache;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bounded in-process cache of task statuses and labels, which are read on every task write
+ * but change rarely. Entries are dropped by {@link ReferenceDataCacheListener} after any change commits.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private static final String ALL = "all";
+
+    private final TaskStatusRepository taskStatusRepository;
+
+    private final LabelRepository labelRepository;
+
+    private final TaskStatusMapper taskStatusMapper;
+
+    private final LabelMapper labelMapper;
+
+    private final ReferenceCacheProperties properties;
+
+    private final LruCache<String, TaskStatusDTO> taskStatusesBySlug;
+
+    private final LruCache<Long, TaskStatusDTO> taskStatusesById;
+
+    private final LruCache<String, List<TaskStatusDTO>> allTaskStatuses;
+
+    private final LruCache<Long, LabelDTO> labelsById;
+
+    private final LruCache<String, List<LabelDTO>> allLabels;
+
+    public ReferenceDataCache(
+            TaskStatusRepository taskStatusRepository,
+            LabelRepository labelRepository,
+            TaskStatusMapper taskStatusMapper,
+            LabelMapper labelMapper,
+            ReferenceCacheProperties properties) {
+        this.taskStatusRepository = taskStatusRepository;
+        this.labelRepository = labelRepository;
+        this.taskStatusMapper = taskStatusMapper;
+        this.labelMapper = labelMapper;
+        this.properties = properties;
+
+        var maxEntries = properties.getMaxEntries();
+        var ttl = properties.getTtl();
+        this.taskStatusesBySlug = new LruCache<>(maxEntries, ttl);
+        this.taskStatusesById = new LruCache<>(maxEntries, ttl);
+        this.allTaskStatuses = new LruCache<>(1, ttl);
+        this.labelsById = new LruCache<>(maxEntries, ttl);
+        this.allLabels = new LruCache<>(1, ttl);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        findAllTaskStatuses();
+        findAllLabels();
+    }
+
+    public Optional<TaskStatusDTO> findTaskStatusBySlug(String slug) {
+        return Optional.ofNullable(taskStatusesBySlug.get(slug, key -> taskStatusRepository.findBySlug(key)
+                .map(taskStatusMapper::map)
+                .orElse(null)));
+    }
+
+    public Optional<TaskStatusDTO> findTaskStatusById(Long id) {
+        return Optional.ofNullable(taskStatusesById.get(id, key -> taskStatusRepository.findById(key)
+                .map(taskStatusMapper::map)
+                .orElse(null)));
+    }
+
+    public List<TaskStatusDTO> findAllTaskStatuses() {
+        var cached = allTaskStatuses.getIfPresent(ALL);
+        if (cached != null) {
+            return cached;
+        }
+
+        var taskStatuses = taskStatusRepository.findAll().stream()
+                .map(taskStatusMapper::map)
+                .toList();
+        if (taskStatuses.size() <= properties.getMaxEntries()) {
+            taskStatuses.forEach(status -> {
+                taskStatusesById.put(status.getId(), status);
+                taskStatusesBySlug.put(status.getSlug(), status);
+            });
+            allTaskStatuses.put(ALL, taskStatuses);
+        }
+        return taskStatuses;
+    }
+
+    public Optional<LabelDTO> findLabelById(Long id) {
+        return Optional.ofNullable(labelsById.get(id, key -> labelRepository.findById(key)
+                .map(labelMapper::map)
+                .orElse(null)));
+    }
+
+    // Cached labels are served directly; the remaining ids are loaded with a single query.
+    public List<LabelDTO> findLabelsByIds(Collection<Long> ids) {
+        var result = new ArrayList<LabelDTO>();
+        var missing = new ArrayList<Long>();
+        for (var id : new LinkedHashSet<>(ids)) {
+            var label = labelsById.getIfPresent(id);
+            if (label != null) {
+                result.add(label);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (var label : labelRepository.findByIdIn(missing)) {
+                var dto = labelMapper.map(label);
+                labelsById.put(dto.getId(), dto);
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    public List<LabelDTO> findAllLabels() {
+        var cached = allLabels.getIfPresent(ALL);
+        if (cached != null) {
+            return cached;
+        }
+
+        var labels = labelRepository.findAll().stream()
+                .map(labelMapper::map)
+                .toList();
+        if (labels.size() <= properties.getMaxEntries()) {
+            labels.forEach(label -> labelsById.put(label.getId(), label));
+            allLabels.put(ALL, labels);
+        }
+        return labels;
+    }
+
+    public void invalidateTaskStatuses() {
+        taskStatusesBySlug.clear();
+        taskStatusesById.clear();
+        allTaskStatuses.clear();
+    }
+
+    public void invalidateLabels() {
+        labelsById.clear();
+        allLabels.clear();
+    }
+
+    public long getHits() {
+        return taskStatusesBySlug.getHits() + taskStatusesById.getHits() + allTaskStatuses.getHits()
+                + labelsById.getHits() + allLabels.getHits();
+    }
+
+    public long getMisses() {
+        return taskStatusesBySlug.getMisses() + taskStatusesById.getMisses() + allTaskStatuses.getMisses()
+                + labelsById.getMisses() + allLabels.getMisses();
+    }
+}
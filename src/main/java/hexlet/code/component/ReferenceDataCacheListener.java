@@ -0,0 +1,30 @@
+package hexlet.code.component;
+
+import static hexlet.code.util.TransactionUtils.afterCommit;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class ReferenceDataCacheListener {
+
+    private final ObjectProvider<ReferenceDataCache> referenceDataCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof TaskStatus) {
+            afterCommit(() -> referenceDataCache.getObject().invalidateTaskStatuses());
+        } else if (entity instanceof Label) {
+            afterCommit(() -> referenceDataCache.getObject().invalidateLabels());
+        }
+    }
+}
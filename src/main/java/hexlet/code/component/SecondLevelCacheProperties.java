@@ -0,0 +1,42 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "second-level-cache")
+@Getter
+@Setter
+public class SecondLevelCacheProperties {
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(30);
+
+    private boolean enabled = true;
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+    private Duration timeToIdle;
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Region region(String name) {
+        var region = new Region();
+        var override = regions.getOrDefault(name, new Region());
+        region.setMaxEntries(override.getMaxEntries() != null ? override.getMaxEntries() : maxEntries);
+        region.setTimeToLive(override.getTimeToLive() != null ? override.getTimeToLive() : timeToLive);
+        region.setTimeToIdle(override.getTimeToIdle() != null ? override.getTimeToIdle() : timeToIdle);
+        return region;
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+        private Integer maxEntries;
+        private Duration timeToLive;
+        private Duration timeToIdle;
+    }
+}
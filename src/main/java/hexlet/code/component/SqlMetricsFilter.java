@@ -0,0 +1,98 @@
+package hexlet.code.component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_METRIC = "http.server.requests.sql.statements";
+
+    public static final String TIME_METRIC = "http.server.requests.sql.time";
+
+    private static final String TOTALS_ATTRIBUTE = SqlMetricsFilter.class.getName() + ".totals";
+
+    private final SqlStatementRecorder sqlStatementRecorder;
+
+    private final MeterRegistry meterRegistry;
+
+    // Async requests come back through an async dispatch once their result is written; they are recorded then
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var totals = totalsOf(request);
+        sqlStatementRecorder.start(totals);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            sqlStatementRecorder.stop();
+            if (!request.isAsyncStarted()) {
+                record(request, totals);
+            }
+        }
+    }
+
+    // Kept on the request, so statements run by a StreamingResponseBody or Callable on an executor
+    // thread count towards the request that started them
+    private SqlStatementRecorder.Totals totalsOf(HttpServletRequest request) {
+        var existing = (SqlStatementRecorder.Totals) request.getAttribute(TOTALS_ATTRIBUTE);
+        if (existing != null) {
+            return existing;
+        }
+        var totals = new SqlStatementRecorder.Totals();
+        request.setAttribute(TOTALS_ATTRIBUTE, totals);
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(TOTALS_ATTRIBUTE,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void preProcess(NativeWebRequest webRequest, Callable<T> task) {
+                        sqlStatementRecorder.start(totals);
+                    }
+
+                    @Override
+                    public <T> void postProcess(NativeWebRequest webRequest, Callable<T> task, Object result) {
+                        sqlStatementRecorder.stop();
+                    }
+                });
+        return totals;
+    }
+
+    private void record(HttpServletRequest request, SqlStatementRecorder.Totals totals) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(totals.getCount());
+        Timer.builder(TIME_METRIC)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(totals.getTime());
+    }
+}
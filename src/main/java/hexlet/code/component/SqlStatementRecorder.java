@@ -0,0 +1,95 @@
+package hexlet.code.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Receives every JDBC statement executed through the proxied DataSource. Records a global timer
+ * per statement type and adds the statement to the totals bound to the current thread, which
+ * belong to the request that thread is serving.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementRecorder implements QueryExecutionListener {
+
+    public static final String METRIC_NAME = "jdbc.statements";
+
+    private static final List<String> TYPES = List.of("select", "insert", "update", "delete");
+
+    private static final String STARTED_AT = SqlStatementRecorder.class.getName() + ".startedAt";
+
+    private final ThreadLocal<Totals> current = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public void start(Totals totals) {
+        current.set(totals);
+    }
+
+    public void stop() {
+        current.remove();
+    }
+
+    // getElapsedTime() only has millisecond resolution, which hides most statements, so time them in nanoseconds
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        var elapsed = startedAt == null
+                ? Duration.ofMillis(execInfo.getElapsedTime())
+                : Duration.ofNanos(System.nanoTime() - startedAt);
+        Timer.builder(METRIC_NAME)
+                .tag("type", type(queryInfoList))
+                .tag("batch", String.valueOf(execInfo.isBatch()))
+                .register(meterRegistry)
+                .record(elapsed);
+
+        var totals = current.get();
+        if (totals != null) {
+            totals.add(elapsed);
+        }
+    }
+
+    private static String type(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return "other";
+        }
+        var query = queryInfoList.get(0).getQuery().stripLeading().toLowerCase(Locale.ROOT);
+        return TYPES.stream()
+                .filter(query::startsWith)
+                .findFirst()
+                .orElse("other");
+    }
+
+    // Filled by whichever thread serves the request at the time, including async executor threads
+    public static final class Totals {
+        private int count;
+        private Duration time = Duration.ZERO;
+
+        public synchronized int getCount() {
+            return count;
+        }
+
+        public synchronized Duration getTime() {
+            return time;
+        }
+
+        private synchronized void add(Duration elapsed) {
+            count++;
+            time = time.plus(elapsed);
+        }
+    }
+}
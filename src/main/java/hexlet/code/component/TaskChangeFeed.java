@@ -0,0 +1,181 @@
+package hexlet.code.component;
+
+import static hexlet.code.util.TransactionUtils.afterCommit;
+
+import hexlet.code.dto.taskDto.TaskChangeDTO;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.dto.taskDto.TaskParamsDTO;
+import hexlet.code.exception.ServiceOverloadedException;
+import hexlet.code.specification.TaskSpecification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * In-process fan-out of committed task changes to Server-Sent Events subscribers. Every subscriber
+ * has its own bounded buffer that is drained on a virtual thread only while it holds events, so an
+ * idle subscriber costs an emitter and an empty queue. A subscriber whose buffer overflows is
+ * disconnected and is expected to reload the board and reconnect.
+ */
+@Component
+public class TaskChangeFeed implements DisposableBean {
+
+    public static final String CREATED = "created";
+
+    public static final String UPDATED = "updated";
+
+    public static final String DELETED = "deleted";
+
+    // The task still exists but no longer matches the subscriber's filter
+    public static final String REMOVED = "removed";
+
+    private static final TaskChangeDTO HEARTBEAT = new TaskChangeDTO();
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final TaskSpecification specBuilder;
+
+    private final TaskStreamProperties properties;
+
+    public TaskChangeFeed(TaskSpecification specBuilder, TaskStreamProperties properties) {
+        this.specBuilder = specBuilder;
+        this.properties = properties;
+    }
+
+    public SseEmitter subscribe(TaskParamsDTO params) {
+        var matcher = specBuilder.buildMatcher(params);
+        if (subscriptions.size() >= properties.getMaxSubscribers()) {
+            throw new ServiceOverloadedException("Too many task stream subscribers", properties.getHeartbeat());
+        }
+
+        var emitter = new SseEmitter(properties.getTimeout().toMillis());
+        var subscription = new Subscription(emitter, matcher, new LinkedBlockingQueue<>(properties.getBufferSize()));
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        subscriptions.add(subscription);
+
+        // Commits the response headers right away, so clients see the stream as open
+        offer(subscription, HEARTBEAT);
+        return emitter;
+    }
+
+    // A null before means the task was created, a null after that it was deleted
+    public void publish(TaskDTO before, TaskDTO after) {
+        afterCommit(() -> dispatch(before, after));
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+        for (var subscription : subscriptions) {
+            subscription.emitter.complete();
+        }
+        subscriptions.clear();
+    }
+
+    private void dispatch(TaskDTO before, TaskDTO after) {
+        for (var subscription : subscriptions) {
+            var change = changeFor(subscription.matcher, before, after);
+            if (change != null) {
+                offer(subscription, change);
+            }
+        }
+    }
+
+    private TaskChangeDTO changeFor(Predicate<TaskDTO> matcher, TaskDTO before, TaskDTO after) {
+        if (after != null && matcher.test(after)) {
+            return new TaskChangeDTO(before == null ? CREATED : UPDATED, after.getId(), after.getVersion(), after);
+        }
+        if (before != null && matcher.test(before)) {
+            var version = after == null ? before.getVersion() : after.getVersion();
+            return new TaskChangeDTO(after == null ? DELETED : REMOVED, before.getId(), version, null);
+        }
+        return null;
+    }
+
+    @Scheduled(
+            fixedRateString = "#{@taskStreamProperties.heartbeat.toMillis()}",
+            initialDelayString = "#{@taskStreamProperties.heartbeat.toMillis()}")
+    private void heartbeat() {
+        for (var subscription : subscriptions) {
+            offer(subscription, HEARTBEAT);
+        }
+    }
+
+    private void offer(Subscription subscription, TaskChangeDTO change) {
+        if (!subscription.buffer.offer(change)) {
+            dropped.incrementAndGet();
+            subscriptions.remove(subscription);
+            subscription.emitter.complete();
+            return;
+        }
+        if (subscription.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            do {
+                var change = subscription.buffer.poll();
+                while (change != null) {
+                    send(subscription.emitter, change);
+                    change = subscription.buffer.poll();
+                }
+                subscription.draining.set(false);
+            } while (!subscription.buffer.isEmpty() && subscription.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(e);
+        }
+    }
+
+    private void send(SseEmitter emitter, TaskChangeDTO change) throws IOException {
+        if (change == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        emitter.send(SseEmitter.event()
+                .name(change.getType())
+                .data(change, MediaType.APPLICATION_JSON));
+    }
+
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private final Predicate<TaskDTO> matcher;
+        private final BlockingQueue<TaskChangeDTO> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter, Predicate<TaskDTO> matcher, BlockingQueue<TaskChangeDTO> buffer) {
+            this.emitter = emitter;
+            this.matcher = matcher;
+            this.buffer = buffer;
+        }
+    }
+}
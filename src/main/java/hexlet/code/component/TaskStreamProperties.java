@@ -0,0 +1,24 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "task-stream")
+@Getter
+@Setter
+public class TaskStreamProperties {
+    private static final int DEFAULT_BUFFER_SIZE = 64;
+    private static final int DEFAULT_MAX_SUBSCRIBERS = 10_000;
+    private static final Duration DEFAULT_HEARTBEAT = Duration.ofSeconds(20);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(30);
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private int maxSubscribers = DEFAULT_MAX_SUBSCRIBERS;
+    private Duration heartbeat = DEFAULT_HEARTBEAT;
+    private Duration timeout = DEFAULT_TIMEOUT;
+}
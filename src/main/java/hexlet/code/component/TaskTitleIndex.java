@@ -0,0 +1,126 @@
+package hexlet.code.component;
+
+import hexlet.code.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process trigram inverted index over task names, used as the substring search index
+ * on databases without pg_trgm. It only narrows candidates: callers still apply the LIKE predicate.
+ * It never rules a search out on its own, since it misses tasks until it has been built, tasks
+ * committed but not yet added, and rows written without Hibernate.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskTitleIndex {
+
+    public static final int GRAM_SIZE = 3;
+
+    public static final int MAX_CANDIDATES = 1000;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+
+    private final TaskRepository taskRepository;
+
+    private final SearchProperties searchProperties;
+
+    private volatile boolean ready;
+
+    public boolean isEnabled() {
+        return searchProperties.isNgramIndex();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        ready = false;
+        postings.clear();
+        titles.clear();
+        for (var task : taskRepository.findAllTitlesBy()) {
+            put(task.getId(), task.getName());
+        }
+        ready = true;
+    }
+
+    public synchronized void put(Long id, String title) {
+        if (!isEnabled()) {
+            return;
+        }
+        remove(id);
+        var normalized = normalize(title);
+        titles.put(id, normalized);
+        for (var gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        var title = titles.remove(id);
+        if (title == null) {
+            return;
+        }
+        for (var gram : grams(title)) {
+            var ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // Empty when the index cannot help: disabled, not built yet, query shorter than a gram,
+    // no candidates at all, or too many of them.
+    public Optional<Set<Long>> findCandidates(String substring) {
+        var normalized = normalize(substring);
+        if (!isEnabled() || !ready || normalized.length() < GRAM_SIZE) {
+            return Optional.empty();
+        }
+
+        var postingLists = grams(normalized).stream()
+                .map(gram -> postings.getOrDefault(gram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        var candidates = new HashSet<>(postingLists.get(0));
+        for (var ids : postingLists.subList(1, postingLists.size())) {
+            if (candidates.isEmpty()) {
+                break;
+            }
+            candidates.retainAll(ids);
+        }
+
+        if (candidates.isEmpty() || candidates.size() > MAX_CANDIDATES) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String value) {
+        var result = new LinkedHashSet<String>();
+        for (var i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            result.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+package hexlet.code.component;
+
+import static hexlet.code.util.TransactionUtils.afterCommit;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class TaskTitleIndexListener {
+
+    // Resolved lazily: Hibernate instantiates entity listeners while the EntityManagerFactory
+    // that TaskTitleIndex depends on through TaskRepository is still being created.
+    private final ObjectProvider<TaskTitleIndex> taskTitleIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Task task) {
+        var id = task.getId();
+        var name = task.getName();
+        afterCommit(() -> taskTitleIndex.getObject().put(id, name));
+    }
+
+    @PostRemove
+    public void onRemove(Task task) {
+        var id = task.getId();
+        afterCommit(() -> taskTitleIndex.getObject().remove(id));
+    }
+}
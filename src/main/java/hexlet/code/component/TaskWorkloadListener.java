@@ -0,0 +1,67 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskWorkloadRepository;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+// Counters are adjusted during the flush, in the transaction that changes the task
+@Component
+@AllArgsConstructor
+public class TaskWorkloadListener {
+
+    private final ObjectProvider<TaskWorkloadRepository> workloadRepository;
+
+    @PostLoad
+    public void onLoad(Task task) {
+        remember(task);
+    }
+
+    @PostPersist
+    public void onCreate(Task task) {
+        workloadRepository.getObject().add(assigneeId(task), statusId(task), 1);
+        remember(task);
+    }
+
+    @PostUpdate
+    public void onUpdate(Task task) {
+        var assigneeId = assigneeId(task);
+        var statusId = statusId(task);
+        if (Objects.equals(assigneeId, task.getStoredAssigneeId())
+                && Objects.equals(statusId, task.getStoredStatusId())) {
+            return;
+        }
+        if (task.getStoredStatusId() != null) {
+            workloadRepository.getObject().add(task.getStoredAssigneeId(), task.getStoredStatusId(), -1);
+        }
+        workloadRepository.getObject().add(assigneeId, statusId, 1);
+        remember(task);
+    }
+
+    @PostRemove
+    public void onDelete(Task task) {
+        var statusId = task.getStoredStatusId() != null ? task.getStoredStatusId() : statusId(task);
+        var assigneeId = task.getStoredStatusId() != null ? task.getStoredAssigneeId() : assigneeId(task);
+        workloadRepository.getObject().add(assigneeId, statusId, -1);
+    }
+
+    private void remember(Task task) {
+        task.setStoredAssigneeId(assigneeId(task));
+        task.setStoredStatusId(statusId(task));
+    }
+
+    private Long assigneeId(Task task) {
+        return task.getAssignee() == null ? null : task.getAssignee().getId();
+    }
+
+    private Long statusId(Task task) {
+        return task.getTaskStatus() == null ? null : task.getTaskStatus().getId();
+    }
+}
@@ -0,0 +1,38 @@
+package hexlet.code.component;
+
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
+import lombok.AllArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class UserAuthorization {
+
+    private final UserRepository userRepository;
+
+    public boolean isOwner(Authentication authentication, Long id) {
+        if (authentication == null || id == null) {
+            return false;
+        }
+
+        if (authentication.getPrincipal() instanceof User user) {
+            return id.equals(user.getId());
+        }
+
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+            Object userId = jwtAuthentication.getToken().getClaim(JWTUtils.USER_ID_CLAIM);
+            if (userId instanceof Number number) {
+                return number.longValue() == id;
+            }
+        }
+
+        // Tokens issued before the user id claim was added still need a lookup by email.
+        return userRepository.findByEmail(authentication.getName())
+                .map(user -> id.equals(user.getId()))
+                .orElse(false);
+    }
+}
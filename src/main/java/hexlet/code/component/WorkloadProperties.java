@@ -0,0 +1,18 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "workload")
+@Getter
+@Setter
+public class WorkloadProperties {
+    private static final Duration DEFAULT_REBUILD_INTERVAL = Duration.ofHours(1);
+
+    private Duration rebuildInterval = DEFAULT_REBUILD_INTERVAL;
+}
@@ -0,0 +1,28 @@
+package hexlet.code.component;
+
+import hexlet.code.service.TaskWorkloadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkloadRebuildJob {
+
+    private final TaskWorkloadService workloadService;
+
+    @Scheduled(
+            fixedDelayString = "#{@workloadProperties.rebuildInterval.toMillis()}",
+            initialDelayString = "#{@workloadProperties.rebuildInterval.toMillis()}")
+    private void rebuild() {
+        try {
+            if (!workloadService.rebuild()) {
+                log.debug("Workload counters are being rebuilt by another instance");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Workload counters rebuild failed: {}", e.getMessage());
+        }
+    }
+}
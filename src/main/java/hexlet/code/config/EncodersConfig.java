@@ -6,7 +6,11 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import hexlet.code.component.JwtCacheProperties;
+import hexlet.code.component.PasswordHashingProperties;
 import hexlet.code.component.RsaKeyProperties;
+import hexlet.code.util.BoundedPasswordEncoder;
+import hexlet.code.util.CachingJwtDecoder;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,9 +27,21 @@ public class EncodersConfig {
 
     private final RsaKeyProperties rsaKeys;
 
+    private final JwtCacheProperties jwtCacheProperties;
+
+    private final PasswordHashingProperties passwordHashingProperties;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        var threads = passwordHashingProperties.getThreads() > 0
+                ? passwordHashingProperties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(passwordHashingProperties.getStrength()),
+                threads,
+                passwordHashingProperties.getQueueCapacity(),
+                passwordHashingProperties.getTimeout(),
+                passwordHashingProperties.getRetryAfter());
     }
 
     @Bean
@@ -37,6 +53,10 @@ public class EncodersConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+        var decoder = NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+        if (!jwtCacheProperties.isEnabled()) {
+            return decoder;
+        }
+        return new CachingJwtDecoder(decoder, jwtCacheProperties.getMaxSize(), jwtCacheProperties.getMaxTtl());
     }
 }
@@ -0,0 +1,113 @@
+package hexlet.code.config;
+
+import hexlet.code.component.OutboxDispatcher;
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.component.TaskChangeFeed;
+import hexlet.code.repository.OutboxRepository;
+import hexlet.code.util.BoundedPasswordEncoder;
+import hexlet.code.util.CachingJwtDecoder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import javax.sql.DataSource;
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                var builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                listeners.orderedStream().forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder referenceDataCacheMetrics(ReferenceDataCache cache) {
+        return registry -> {
+            cacheGets("reference-data", "hit", cache, ReferenceDataCache::getHits).register(registry);
+            cacheGets("reference-data", "miss", cache, ReferenceDataCache::getMisses).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder outboxMetrics(OutboxDispatcher dispatcher, OutboxRepository outboxRepository) {
+        return registry -> {
+            FunctionCounter.builder("outbox.dispatched", dispatcher, OutboxDispatcher::getDispatched)
+                    .description("Outbox events accepted by the sink")
+                    .register(registry);
+            FunctionCounter.builder("outbox.failures", dispatcher, OutboxDispatcher::getFailures)
+                    .description("Outbox dispatch attempts that failed and will be retried")
+                    .register(registry);
+            Gauge.builder("outbox.pending", outboxRepository, OutboxRepository::count)
+                    .description("Outbox events waiting to be dispatched")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder taskStreamMetrics(TaskChangeFeed feed) {
+        return registry -> {
+            Gauge.builder("task.stream.subscribers", feed, TaskChangeFeed::getSubscriberCount)
+                    .description("Open task change streams")
+                    .register(registry);
+            FunctionCounter.builder("task.stream.dropped", feed, TaskChangeFeed::getDropped)
+                    .description("Task change streams closed because the subscriber fell behind")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder jwtCacheMetrics(JwtDecoder jwtDecoder) {
+        return registry -> {
+            if (jwtDecoder instanceof CachingJwtDecoder decoder) {
+                cacheGets("jwt", "hit", decoder, CachingJwtDecoder::getHits).register(registry);
+                cacheGets("jwt", "miss", decoder, CachingJwtDecoder::getMisses).register(registry);
+                Gauge.builder("cache.size", decoder, CachingJwtDecoder::size)
+                        .tag("cache", "jwt")
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            if (passwordEncoder instanceof BoundedPasswordEncoder encoder) {
+                Gauge.builder("password.hashing.queue", encoder, BoundedPasswordEncoder::getQueueDepth)
+                        .description("Password hashing tasks waiting for a thread")
+                        .register(registry);
+                Gauge.builder("password.hashing.active", encoder, BoundedPasswordEncoder::getActiveCount)
+                        .description("Password hashing tasks running")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static <T> FunctionCounter.Builder<T> cacheGets(
+            String cache,
+            String result,
+            T source,
+            ToDoubleFunction<T> count) {
+        return FunctionCounter.builder("cache.gets", source, count)
+                .tag("cache", cache)
+                .tag("result", result);
+    }
+}
@@ -0,0 +1,72 @@
+package hexlet.code.config;
+
+import hexlet.code.component.SecondLevelCacheProperties;
+import hexlet.code.model.CacheRegions;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.UUID;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Every application context gets its own manager, so devtools restarts and
+    // test contexts never see regions holding entities of another context
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        var regions = new HashMap<String, CacheConfiguration<?, ?>>();
+        for (var name : CacheRegions.ALL) {
+            regions.put(name, regionConfiguration(name, properties.region(name)));
+        }
+        var provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        var uri = URI.create("urn:hexlet:hibernate-cache:" + UUID.randomUUID());
+        return provider.getCacheManager(uri, new DefaultConfiguration(regions, getClass().getClassLoader()));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            SecondLevelCacheProperties properties,
+            CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.isEnabled());
+            if (properties.isEnabled()) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    private static CacheConfiguration<Object, Object> regionConfiguration(
+            String name,
+            SecondLevelCacheProperties.Region region) {
+        var builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class, Object.class, ResourcePoolsBuilder.heap(region.getMaxEntries()));
+        // Query results are only valid while the table timestamps they are checked against
+        // are still around, so the timestamps region never expires on its own
+        if (CacheRegions.UPDATE_TIMESTAMPS.equals(name)) {
+            return builder.withExpiry(ExpiryPolicyBuilder.noExpiration()).build();
+        }
+        if (region.getTimeToIdle() != null) {
+            return builder.withExpiry(ExpiryPolicyBuilder.timeToIdleExpiration(region.getTimeToIdle())).build();
+        }
+        if (region.getTimeToLive() != null) {
+            return builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive())).build();
+        }
+        return builder.withExpiry(ExpiryPolicyBuilder.noExpiration()).build();
+    }
+}
@@ -1,6 +1,7 @@
 package hexlet.code.controller.api;
 
 import hexlet.code.dto.AuthRequest;
+import hexlet.code.model.User;
 import hexlet.code.util.JWTUtils;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -28,9 +29,9 @@ public class AuthenticationController {
                 authRequest.getUsername(),
                 authRequest.getPassword());
 
-        authenticationManager.authenticate(authentication);
+        var user = (User) authenticationManager.authenticate(authentication).getPrincipal();
 
-        var token = jwtUtils.generateToken(authRequest.getUsername());
+        var token = jwtUtils.generateToken(user.getUsername(), user.getId());
         return token;
     }
 }
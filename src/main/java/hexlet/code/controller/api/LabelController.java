@@ -1,8 +1,10 @@
 package hexlet.code.controller.api;
 
+import hexlet.code.component.ChangeStamps;
 import hexlet.code.dto.labelDto.LabelCreateDTO;
 import hexlet.code.dto.labelDto.LabelDTO;
 import hexlet.code.dto.labelDto.LabelUpdateDTO;
+import hexlet.code.model.Label;
 import hexlet.code.service.LabelService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -27,9 +30,15 @@ public class LabelController {
 
     private final LabelService labelService;
 
+    private final ChangeStamps changeStamps;
+
     @GetMapping(path = "")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<List<LabelDTO>> index() {
+    public ResponseEntity<List<LabelDTO>> index(ServletWebRequest request) {
+        if (changeStamps.checkNotModified(request, Label.class)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         var result = labelService.getAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(result.size()))
@@ -38,8 +47,12 @@ public class LabelController {
 
     @GetMapping(path = "/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public LabelDTO show(@PathVariable Long id) {
-        return labelService.findById(id);
+    public ResponseEntity<LabelDTO> show(@PathVariable Long id, ServletWebRequest request) {
+        var version = labelService.findVersion(id);
+        if (version.isPresent() && changeStamps.checkNotModified(request, version.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(labelService.findById(id));
     }
 
     @PostMapping(path = "")
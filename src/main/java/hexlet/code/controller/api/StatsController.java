@@ -0,0 +1,47 @@
+package hexlet.code.controller.api;
+
+import hexlet.code.dto.statsDto.WorkloadDTO;
+import hexlet.code.service.TaskWorkloadService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/stats")
+@AllArgsConstructor
+public class StatsController {
+
+    private final TaskWorkloadService workloadService;
+
+    @GetMapping(path = "/workload")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<WorkloadDTO>> workload(
+            @RequestParam(required = false) Long assigneeId,
+            ServletWebRequest request) {
+        var workload = workloadService.getWorkload(assigneeId);
+        if (request.checkNotModified(etag(workload))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(workload);
+    }
+
+    // Taken from the counters themselves: a rebuild can correct them without any task changing,
+    // and the counter read is already as cheap as a table stamp lookup would be
+    private String etag(List<WorkloadDTO> workload) {
+        var source = workload.stream()
+                .map(row -> row.getAssigneeId() + ":" + row.getStatus() + "=" + row.getCount())
+                .collect(Collectors.joining(","));
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
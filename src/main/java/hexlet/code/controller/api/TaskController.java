@@ -1,13 +1,26 @@
 package hexlet.code.controller.api;
 
+import hexlet.code.component.ChangeStamps;
+import hexlet.code.component.TaskChangeFeed;
+import hexlet.code.dto.taskDto.TaskBatchItemDTO;
+import hexlet.code.dto.taskDto.TaskBatchResultDTO;
+import hexlet.code.dto.taskDto.TaskBoardColumnDTO;
 import hexlet.code.dto.taskDto.TaskCreateDTO;
 import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.dto.taskDto.TaskExportFormat;
 import hexlet.code.dto.taskDto.TaskParamsDTO;
 import hexlet.code.dto.taskDto.TaskUpdateDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.service.TaskBatchService;
+import hexlet.code.service.TaskExportService;
 import hexlet.code.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,9 +28,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
@@ -26,21 +45,98 @@ import java.util.List;
 @AllArgsConstructor
 public class TaskController {
 
+    // A task representation also shows its status slug and label ids
+    private static final Class<?>[] SOURCES = {Task.class, TaskStatus.class, Label.class};
+
+    private static final Class<?>[] REFERENCES = {TaskStatus.class, Label.class};
+
     private final TaskService taskService;
 
+    private final TaskExportService taskExportService;
+
+    private final TaskBatchService taskBatchService;
+
+    private final ChangeStamps changeStamps;
+
+    private final TaskChangeFeed taskChangeFeed;
+
     @GetMapping(path = "")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO params) {
+    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO params, ServletWebRequest request) {
+        if (changeStamps.checkNotModified(request, SOURCES)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        if (params.getLimit() != null) {
+            return indexPage(params);
+        }
+
         var result = taskService.getAll(params);
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(result.size()))
                 .body(result);
     }
 
+    private ResponseEntity<List<TaskDTO>> indexPage(TaskParamsDTO params) {
+        var page = taskService.getPage(params);
+        var response = ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(page.getTotalCount()));
+        if (page.isTotalEstimated()) {
+            response.header("X-Total-Count-Estimated", "true");
+        }
+
+        var nextCursor = page.getNextCursor();
+        if (nextCursor != null) {
+            var next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", nextCursor)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                    .header("X-Next-Cursor", nextCursor);
+        }
+
+        return response.body(page.getData());
+    }
+
+    @GetMapping(path = "/board")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<TaskBoardColumnDTO>> board(
+            TaskParamsDTO params,
+            @RequestParam(defaultValue = "20") int perStatus,
+            ServletWebRequest request) {
+        if (changeStamps.checkNotModified(request, SOURCES)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(taskService.getBoard(params, perStatus));
+    }
+
+    @GetMapping(path = "/export")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<StreamingResponseBody> export(
+            TaskParamsDTO params,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        var exportFormat = TaskExportFormat.of(format);
+        StreamingResponseBody body = outputStream -> taskExportService.export(params, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(TaskParamsDTO params) {
+        return taskChangeFeed.subscribe(params);
+    }
+
     @GetMapping(path = "/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public TaskDTO show(@PathVariable Long id) {
-        return taskService.findById(id);
+    public ResponseEntity<TaskDTO> show(@PathVariable Long id, ServletWebRequest request) {
+        var version = taskService.findVersion(id);
+        if (version.isPresent() && changeStamps.checkNotModified(request, version.get(), REFERENCES)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(taskService.findById(id));
     }
 
     @PostMapping(path = "")
@@ -49,12 +145,24 @@ public class TaskController {
         return taskService.create(dto);
     }
 
+    @PostMapping(path = "/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TaskBatchResultDTO> batch(@RequestBody List<TaskBatchItemDTO> items) {
+        return taskBatchService.execute(items);
+    }
+
     @PutMapping(path = "/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public TaskDTO update(
+    public ResponseEntity<TaskDTO> update(
             @PathVariable Long id,
-            @Valid @RequestBody TaskUpdateDTO dto) {
-        return taskService.update(id, dto);
+            @Valid @RequestBody TaskUpdateDTO dto,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            ServletWebRequest request) {
+        var expectedVersions = ifMatch == null ? null : ChangeStamps.parseIfMatch(ifMatch).orElse(null);
+        var task = taskService.update(id, dto, expectedVersions);
+        return ResponseEntity.ok()
+                .eTag(changeStamps.rowEtag(request.getRequest().getRequestURI(), task.getVersion(), REFERENCES))
+                .body(task);
     }
 
     @DeleteMapping(path = "/{id}")
@@ -1,8 +1,10 @@
 package hexlet.code.controller.api;
 
+import hexlet.code.component.ChangeStamps;
 import hexlet.code.dto.taskStatusDto.TaskStatusCreateDTO;
 import hexlet.code.dto.taskStatusDto.TaskStatusDTO;
 import hexlet.code.dto.taskStatusDto.TaskStatusUpdateDTO;
+import hexlet.code.model.TaskStatus;
 import hexlet.code.service.TaskStatusService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -27,9 +30,15 @@ public class TaskStatusController {
 
     private final TaskStatusService taskStatusService;
 
+    private final ChangeStamps changeStamps;
+
     @GetMapping(path = "")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<List<TaskStatusDTO>> index() {
+    public ResponseEntity<List<TaskStatusDTO>> index(ServletWebRequest request) {
+        if (changeStamps.checkNotModified(request, TaskStatus.class)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         var result = taskStatusService.getAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(result.size()))
@@ -38,8 +47,12 @@ public class TaskStatusController {
 
     @GetMapping(path = "/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public TaskStatusDTO show(@PathVariable Long id) {
-        return taskStatusService.findById(id);
+    public ResponseEntity<TaskStatusDTO> show(@PathVariable Long id, ServletWebRequest request) {
+        var version = taskStatusService.findVersion(id);
+        if (version.isPresent() && changeStamps.checkNotModified(request, version.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(taskStatusService.findById(id));
     }
 
     @PostMapping(path = "")
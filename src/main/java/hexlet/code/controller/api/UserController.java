@@ -1,8 +1,10 @@
 package hexlet.code.controller.api;
 
+import hexlet.code.component.ChangeStamps;
 import hexlet.code.dto.userDto.UserCreateDTO;
 import hexlet.code.dto.userDto.UserDTO;
 import hexlet.code.dto.userDto.UserUpdateDTO;
+import hexlet.code.model.User;
 import hexlet.code.service.UserService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -26,14 +29,19 @@ import java.util.List;
 @AllArgsConstructor
 public class UserController {
 
-    private static final String ONLY_OWNER_BY_ID
-            = "@userRepository.findById(#id).get().getEmail() == authentication.getName()";
+    private static final String ONLY_OWNER_BY_ID = "@userAuthorization.isOwner(authentication, #id)";
 
     private final UserService userService;
 
+    private final ChangeStamps changeStamps;
+
     @GetMapping(path = "")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<List<UserDTO>> index() {
+    public ResponseEntity<List<UserDTO>> index(ServletWebRequest request) {
+        if (changeStamps.checkNotModified(request, User.class)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         var result = userService.getAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(result.size()))
@@ -42,8 +50,12 @@ public class UserController {
 
     @GetMapping(path = "/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public UserDTO show(@PathVariable Long id) {
-        return userService.findById(id);
+    public ResponseEntity<UserDTO> show(@PathVariable Long id, ServletWebRequest request) {
+        var version = userService.findVersion(id);
+        if (version.isPresent() && changeStamps.checkNotModified(request, version.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(userService.findById(id));
     }
 
     @PostMapping(path = "")
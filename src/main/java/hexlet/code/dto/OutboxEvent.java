@@ -0,0 +1,12 @@
+package hexlet.code.dto;
+
+import java.time.LocalDateTime;
+
+public record OutboxEvent(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        Long version,
+        LocalDateTime occurredAt) {
+}
@@ -0,0 +1,8 @@
+package hexlet.code.dto;
+
+import java.time.LocalDateTime;
+
+public interface VersionView {
+    Long getVersion();
+    LocalDateTime getUpdatedAt();
+}
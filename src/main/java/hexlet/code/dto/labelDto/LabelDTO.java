@@ -1,6 +1,7 @@
 package hexlet.code.dto.labelDto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -14,4 +15,8 @@ public class LabelDTO {
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
     private LocalDateTime createdAt;
+
+    // Carried so that references built from cached DTOs are not mistaken for transient entities
+    @JsonIgnore
+    private Long version;
 }
@@ -0,0 +1,19 @@
+package hexlet.code.dto.statsDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadDTO {
+    @JsonProperty("assignee_id")
+    private Long assigneeId;
+
+    private String status;
+    private long count;
+}
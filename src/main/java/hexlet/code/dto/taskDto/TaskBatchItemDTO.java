@@ -0,0 +1,15 @@
+package hexlet.code.dto.taskDto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBatchItemDTO {
+    private String action;
+
+    private Long id;
+
+    private JsonNode data;
+}
@@ -0,0 +1,15 @@
+package hexlet.code.dto.taskDto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBatchResultDTO {
+    private int index;
+    private String action;
+    private String status;
+    private Long id;
+    private TaskDTO task;
+    private String error;
+}
@@ -0,0 +1,17 @@
+package hexlet.code.dto.taskDto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class TaskBoardColumnDTO {
+    private Long statusId;
+    private String status;
+    private String name;
+    private long count;
+    private List<TaskDTO> tasks = new ArrayList<>();
+}
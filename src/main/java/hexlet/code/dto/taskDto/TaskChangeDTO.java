@@ -0,0 +1,20 @@
+package hexlet.code.dto.taskDto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskChangeDTO {
+    private String type;
+    private Long id;
+    // Row version the event reflects, so subscribers can drop deltas delivered out of commit order
+    private Long version;
+    private TaskDTO task;
+}
@@ -0,0 +1,11 @@
+package hexlet.code.dto.taskDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskCountDTO {
+    private final long value;
+    private final boolean estimated;
+}
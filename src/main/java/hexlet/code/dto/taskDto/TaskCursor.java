@@ -0,0 +1,47 @@
+package hexlet.code.dto.taskDto;
+
+import hexlet.code.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position over {@code (createdAt, id)}, the sort order of paged task listings.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+
+    public static final Sort SORT = Sort.by("createdAt", "id");
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static TaskCursor of(TaskDTO task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor decode(String value) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            var separatorIndex = decoded.indexOf(SEPARATOR);
+            var createdAt = LocalDateTime.parse(decoded.substring(0, separatorIndex));
+            var id = Long.parseLong(decoded.substring(separatorIndex + 1));
+            return new TaskCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        var value = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,7 @@
 package hexlet.code.dto.taskDto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
@@ -25,4 +26,7 @@ public class TaskDTO {
     private String status;
 
     private List<Long> taskLabelIds;
+
+    @JsonIgnore
+    private Long version;
 }
@@ -0,0 +1,15 @@
+package hexlet.code.dto.taskDto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class TaskPageDTO {
+    private List<TaskDTO> data;
+    private String nextCursor;
+    private long totalCount;
+    private boolean totalEstimated;
+}
@@ -3,6 +3,8 @@ package hexlet.code.dto.taskDto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 public class TaskParamsDTO {
@@ -10,4 +12,10 @@ public class TaskParamsDTO {
     private Long assigneeId;
     private String status;
     private Long labelId;
+    private List<Long> labelIds;
+    private String labelMatch;
+
+    private Integer limit;
+    private String after;
+    private Boolean estimateCount;
 }
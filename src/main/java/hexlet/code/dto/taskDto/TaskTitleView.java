@@ -0,0 +1,6 @@
+package hexlet.code.dto.taskDto;
+
+public interface TaskTitleView {
+    Long getId();
+    String getName();
+}
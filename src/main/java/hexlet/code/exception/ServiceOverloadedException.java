@@ -0,0 +1,26 @@
+package hexlet.code.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    // Spring Security wraps failures of the password encoder, e.g. in InternalAuthenticationServiceException
+    public static Optional<ServiceOverloadedException> findIn(Throwable error) {
+        for (var current = error; current != null; current = current.getCause()) {
+            if (current instanceof ServiceOverloadedException overloaded) {
+                return Optional.of(overloaded);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,63 @@
+package hexlet.code.handler;
+
+import hexlet.code.exception.ServiceOverloadedException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP Basic hashes the password inside the security filter chain, where GlobalExceptionHandler does not apply.
+ * An overloaded hashing pool is answered with 503 and Retry-After here, whether it surfaces as a raw exception
+ * from the filter chain or wrapped in the AuthenticationException passed to the entry point.
+ */
+public class ServiceOverloadedFilter extends OncePerRequestFilter implements AuthenticationEntryPoint {
+
+    private final AuthenticationEntryPoint delegate;
+
+    public ServiceOverloadedFilter(AuthenticationEntryPoint delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } catch (RuntimeException e) {
+            var overloaded = ServiceOverloadedException.findIn(e);
+            if (overloaded.isEmpty() || response.isCommitted()) {
+                throw e;
+            }
+            respond(response, overloaded.get());
+        }
+    }
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException e)
+            throws IOException, ServletException {
+        var overloaded = ServiceOverloadedException.findIn(e);
+        if (overloaded.isEmpty()) {
+            delegate.commence(request, response, e);
+            return;
+        }
+        respond(response, overloaded.get());
+    }
+
+    private void respond(HttpServletResponse response, ServiceOverloadedException e) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(e.getMessage());
+    }
+}
@@ -1,5 +1,6 @@
 package hexlet.code.mapper;
 
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.taskDto.TaskCreateDTO;
 import hexlet.code.dto.taskDto.TaskDTO;
 import hexlet.code.dto.taskDto.TaskUpdateDTO;
@@ -7,8 +8,6 @@ import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.model.Label;
 import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
-import hexlet.code.repository.LabelRepository;
-import hexlet.code.repository.TaskStatusRepository;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -29,10 +28,13 @@ import java.util.Set;
 public abstract class TaskMapper {
 
     @Autowired
-    private TaskStatusRepository taskStatusRepository;
+    private ReferenceDataCache referenceDataCache;
 
     @Autowired
-    private LabelRepository labelRepository;
+    private TaskStatusMapper taskStatusMapper;
+
+    @Autowired
+    private LabelMapper labelMapper;
 
     @Mapping(source = "assigneeId", target = "assignee")
     @Mapping(source = "status", target = "taskStatus")
@@ -56,12 +58,17 @@ public abstract class TaskMapper {
     public abstract TaskDTO map(Task model);
 
     public TaskStatus toEntity(String slug) {
-        return taskStatusRepository.findBySlug(slug)
+        return referenceDataCache.findTaskStatusBySlug(slug)
+                .map(taskStatusMapper::toReference)
                 .orElseThrow(() -> new ResourceNotFoundException("Status not found"));
     }
 
     public List<Label> toEntities(List<Long> labelIds) {
-        return labelRepository.findByIdIn(labelIds);
+        return labelIds == null
+                ? List.of()
+                : referenceDataCache.findLabelsByIds(labelIds).stream()
+                .map(labelMapper::toReference)
+                .toList();
     }
 
     public List<Long> toIds(Set<Label> labels) {
@@ -20,4 +20,5 @@ public abstract class TaskStatusMapper {
     public abstract TaskStatus map(TaskStatusCreateDTO dto);
     public abstract TaskStatusDTO map(TaskStatus model);
     public abstract void update(TaskStatusUpdateDTO dto, @MappingTarget TaskStatus model);
+    public abstract TaskStatus toReference(TaskStatusDTO dto);
 }
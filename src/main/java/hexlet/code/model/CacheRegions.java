@@ -0,0 +1,23 @@
+package hexlet.code.model;
+
+import java.util.List;
+
+public final class CacheRegions {
+
+    public static final String TASK_STATUSES = "task-statuses";
+
+    public static final String LABELS = "labels";
+
+    public static final String REFERENCE_QUERIES = "reference-queries";
+
+    // Regions Hibernate creates itself once the query cache is enabled
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ALL = List.of(
+            TASK_STATUSES, LABELS, REFERENCE_QUERIES, DEFAULT_QUERY_RESULTS, UPDATE_TIMESTAMPS);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,9 @@
+package hexlet.code.model;
+
+public final class IdGenerators {
+
+    public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
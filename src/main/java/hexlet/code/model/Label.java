@@ -1,6 +1,9 @@
 package hexlet.code.model;
 
+import hexlet.code.component.OutboxListener;
+import hexlet.code.component.ReferenceDataCacheListener;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -8,12 +11,17 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -21,14 +29,23 @@ import java.util.List;
 
 @Entity
 @Table(name = "labels")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({
+        AuditingEntityListener.class,
+        ReferenceDataCacheListener.class,
+        OutboxListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LABELS)
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public class Label implements BaseEntity {
+public class Label implements VersionedEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "labels_seq")
+    @SequenceGenerator(
+            name = "labels_seq",
+            sequenceName = "labels_seq",
+            allocationSize = IdGenerators.SEQUENCE_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -39,6 +56,12 @@ public class Label implements BaseEntity {
     @CreatedDate
     private LocalDateTime createdAt;
 
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
     @ManyToMany(mappedBy = "labels", cascade = CascadeType.MERGE)
     private List<Task> tasks;
 }
@@ -1,21 +1,30 @@
 package hexlet.code.model;
 
+import hexlet.code.component.OutboxListener;
+import hexlet.code.component.TaskTitleIndexListener;
+import hexlet.code.component.TaskWorkloadListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -23,15 +32,24 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "tasks")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_assignee_id", columnList = "assignee_id"),
+        @Index(name = "idx_tasks_task_status_id", columnList = "task_status_id"),
+        @Index(name = "idx_tasks_updated_at", columnList = "updated_at")
+})
+@EntityListeners({
+        AuditingEntityListener.class,
+        TaskTitleIndexListener.class,
+        OutboxListener.class,
+        TaskWorkloadListener.class})
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public class Task implements BaseEntity {
+public class Task implements VersionedEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -44,15 +62,36 @@ public class Task implements BaseEntity {
     private String description;
 
     @CreatedDate
+    @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    // Resolved from the second-level cache instead of being joined into every task load
     @NotNull
     @ManyToOne(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SELECT)
     private TaskStatus taskStatus;
 
     @ManyToOne(fetch = FetchType.EAGER)
     private User assignee;
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @JoinTable(
+            name = "tasks_labels",
+            joinColumns = @JoinColumn(name = "task_id"),
+            inverseJoinColumns = @JoinColumn(name = "label_id"),
+            indexes = @Index(name = "idx_tasks_labels_label_task", columnList = "label_id, task_id"))
     private Set<Label> labels = new HashSet<>();
+
+    // Assignee and status as last read from or written to the database, kept by TaskWorkloadListener
+    @Transient
+    private Long storedAssigneeId;
+
+    @Transient
+    private Long storedStatusId;
 }
@@ -0,0 +1,14 @@
+package hexlet.code.model;
+
+import hexlet.code.util.TimeOrderedIdFactory;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    // Looked up per id, since Hibernate creates generators before the id node is initialized
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TimeOrderedIdFactory.getDefault().next();
+    }
+}
@@ -0,0 +1,6 @@
+package hexlet.code.model;
+
+public interface VersionedEntity extends BaseEntity {
+    Long getId();
+    Long getVersion();
+}
@@ -0,0 +1,41 @@
+package hexlet.code.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ChangeStampRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // One round trip for all tables. MAX(updated_at) is answered from the updated_at indexes,
+    // and nothing is written, so reads never wait on task writes or hold them up.
+    // Table names come from entity mappings, never from the request.
+    public Map<String, Stamp> findAll(Collection<String> tables) {
+        var sql = tables.stream()
+                .map(table -> "SELECT '" + table + "' AS source, COUNT(*) AS row_count, "
+                        + "MAX(updated_at) AS changed_at FROM " + table)
+                .collect(Collectors.joining(" UNION ALL "));
+        var stamps = new HashMap<String, Stamp>();
+        jdbcTemplate.query(sql, rs -> {
+            var changedAt = rs.getObject("changed_at", LocalDateTime.class);
+            stamps.put(rs.getString("source"), new Stamp(
+                    rs.getLong("row_count"),
+                    changedAt == null ? Instant.EPOCH : changedAt.atZone(ZoneId.systemDefault()).toInstant()));
+        });
+        return stamps;
+    }
+
+    public record Stamp(long count, Instant changedAt) {
+    }
+}
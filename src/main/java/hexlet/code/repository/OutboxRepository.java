@@ -0,0 +1,60 @@
+package hexlet.code.repository;
+
+import hexlet.code.component.DatabaseDialect;
+import hexlet.code.dto.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT = "INSERT INTO outbox_events "
+            + "(aggregate_type, aggregate_id, event_type, version, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_OLDEST = "SELECT id, aggregate_type, aggregate_id, event_type, version, "
+            + "occurred_at FROM outbox_events ORDER BY id LIMIT ?";
+
+    private static final String FOR_UPDATE = " FOR UPDATE";
+
+    private static final String SKIP_LOCKED = " FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE = "DELETE FROM outbox_events WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect databaseDialect;
+
+    public void append(String aggregateType, Long aggregateId, String eventType, Long version) {
+        jdbcTemplate.update(INSERT, aggregateType, aggregateId, eventType, version,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    // Must run in a transaction; the rows stay locked until it ends. On PostgreSQL rows locked by
+    // another dispatcher are skipped, so each event is claimed by one instance at a time.
+    public List<OutboxEvent> claimOldest(int limit) {
+        var sql = SELECT_OLDEST + (databaseDialect.isPostgresql() ? SKIP_LOCKED : FOR_UPDATE);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("id"),
+                rs.getString("aggregate_type"),
+                rs.getLong("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getObject("version", Long.class),
+                rs.getTimestamp("occurred_at").toLocalDateTime()), limit);
+    }
+
+    // By id rather than by range: a transaction that took a lower id may commit after this batch was read
+    public void delete(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(DELETE, events, events.size(), (ps, event) -> ps.setLong(1, event.id()));
+    }
+
+    public long count() {
+        var count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -1,14 +1,25 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.VersionView;
+import hexlet.code.dto.taskDto.TaskTitleView;
 import hexlet.code.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
 
     Optional<Task> findByName(String name);
+
+    List<TaskTitleView> findAllTitlesBy();
+
+    List<TaskTitleView> findAllByNameIn(Collection<String> names);
+
+    Optional<VersionView> findVersionById(Long id);
 }
@@ -0,0 +1,19 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.taskDto.TaskBoardColumnDTO;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.model.Task;
+import hexlet.code.specification.TaskFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    List<TaskDTO> findAllAsDto(Specification<Task> specification, Sort sort, Integer limit);
+
+    Stream<TaskDTO> streamAsDto(Specification<Task> specification, Sort sort, int fetchSize);
+
+    List<TaskBoardColumnDTO> findBoard(TaskFilter filter, int perStatus);
+}
@@ -0,0 +1,188 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.taskDto.TaskBoardColumnDTO;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.model.Task;
+import hexlet.code.specification.TaskFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.JoinType;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final String LABEL_IDS_SEPARATOR = ",";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskDTO> findAllAsDto(Specification<Task> specification, Sort sort, Integer limit) {
+        var query = createDtoQuery(specification, sort);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+
+        return query.getResultList().stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    public Stream<TaskDTO> streamAsDto(Specification<Task> specification, Sort sort, int fetchSize) {
+        return createDtoQuery(specification, sort)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(this::toDto);
+    }
+
+    // One statement: the grouped task rows of the filter are numbered and counted per status
+    // with window functions in a derived table, and only the first rows of every status leave the database.
+    // The filter is applied to the derived table, so its label subqueries are nested there too.
+    @Override
+    public List<TaskBoardColumnDTO> findBoard(TaskFilter filter, int perStatus) {
+        var cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+
+        var rows = query.subquery(Tuple.class);
+        var root = rows.from(Task.class);
+        var assignee = root.join("assignee", JoinType.LEFT);
+        var taskStatus = root.join("taskStatus");
+        var labels = root.join("labels", JoinType.LEFT);
+
+        var id = root.get("id");
+        var index = root.get("index");
+        var createdAt = root.get("createdAt");
+        var name = root.get("name");
+        var description = root.get("description");
+        var assigneeId = assignee.get("id");
+        var statusId = taskStatus.get("id");
+        var status = taskStatus.get("slug");
+        var labelId = (JpaExpression<Long>) labels.<Long>get("id");
+        var labelIds = cb.listagg(cb.asc(labelId), labelId.asString(), LABEL_IDS_SEPARATOR);
+
+        var positionWindow = cb.createWindow()
+                .partitionBy(statusId)
+                .orderBy(cb.asc(index, false), cb.asc(id));
+        var statusWindow = cb.createWindow().partitionBy(statusId);
+
+        rows.multiselect(
+                id.alias("id"),
+                index.alias("index"),
+                createdAt.alias("createdAt"),
+                name.alias("name"),
+                description.alias("description"),
+                assigneeId.alias("assigneeId"),
+                statusId.alias("statusId"),
+                status.alias("status"),
+                labelIds.alias("labelIds"),
+                cb.rowNumber(positionWindow).alias("position"),
+                cb.windowFunction("count", Long.class, statusWindow, id).alias("total"));
+
+        rows.where(filter.toPredicate(root, rows, cb));
+        rows.groupBy(id, index, createdAt, name, description, assigneeId, statusId, status);
+
+        var board = query.from(rows);
+        query.multiselect(
+                board.get("id").alias("id"),
+                board.get("index").alias("index"),
+                board.get("createdAt").alias("createdAt"),
+                board.get("name").alias("name"),
+                board.get("description").alias("description"),
+                board.get("assigneeId").alias("assigneeId"),
+                board.get("statusId").alias("statusId"),
+                board.get("status").alias("status"),
+                board.get("labelIds").alias("labelIds"),
+                board.get("total").alias("total"));
+        query.where(cb.le(board.<Long>get("position"), (long) perStatus));
+        query.orderBy(cb.asc(board.get("statusId")), cb.asc(board.get("position")));
+
+        var columns = new LinkedHashMap<Long, TaskBoardColumnDTO>();
+        for (var tuple : entityManager.createQuery(query).getResultList()) {
+            var column = columns.computeIfAbsent(tuple.get("statusId", Long.class), key -> {
+                var created = new TaskBoardColumnDTO();
+                created.setStatusId(key);
+                created.setStatus(tuple.get("status", String.class));
+                created.setCount(tuple.get("total", Long.class));
+                return created;
+            });
+            column.getTasks().add(toDto(tuple));
+        }
+        return List.copyOf(columns.values());
+    }
+
+    // One grouped statement: scalar columns plus an aggregated label id column,
+    // without hydrating Task, User, TaskStatus or Label entities.
+    private TypedQuery<Tuple> createDtoQuery(Specification<Task> specification, Sort sort) {
+        var cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Task.class);
+        var assignee = root.join("assignee", JoinType.LEFT);
+        var taskStatus = root.join("taskStatus");
+        var labels = root.join("labels", JoinType.LEFT);
+
+        var id = root.get("id");
+        var index = root.get("index");
+        var createdAt = root.get("createdAt");
+        var name = root.get("name");
+        var description = root.get("description");
+        var assigneeId = assignee.get("id");
+        var status = taskStatus.get("slug");
+        var labelId = (JpaExpression<Long>) labels.<Long>get("id");
+        var labelIds = cb.listagg(cb.asc(labelId), labelId.asString(), LABEL_IDS_SEPARATOR);
+
+        query.multiselect(
+                id.alias("id"),
+                index.alias("index"),
+                createdAt.alias("createdAt"),
+                name.alias("name"),
+                description.alias("description"),
+                assigneeId.alias("assigneeId"),
+                status.alias("status"),
+                labelIds.alias("labelIds"));
+
+        var predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(id, index, createdAt, name, description, assigneeId, status);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    private TaskDTO toDto(Tuple tuple) {
+        var dto = new TaskDTO();
+        dto.setId(tuple.get("id", Long.class));
+        dto.setIndex(tuple.get("index", Long.class));
+        dto.setCreatedAt(tuple.get("createdAt", LocalDateTime.class));
+        dto.setTitle(tuple.get("name", String.class));
+        dto.setContent(tuple.get("description", String.class));
+        dto.setAssigneeId(tuple.get("assigneeId", Long.class));
+        dto.setStatus(tuple.get("status", String.class));
+        dto.setTaskLabelIds(toIds(tuple.get("labelIds", String.class)));
+        return dto;
+    }
+
+    private List<Long> toIds(String labelIds) {
+        return labelIds == null
+                ? List.of()
+                : Arrays.stream(labelIds.split(LABEL_IDS_SEPARATOR))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
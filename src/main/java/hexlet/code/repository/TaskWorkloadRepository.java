@@ -0,0 +1,90 @@
+package hexlet.code.repository;
+
+import hexlet.code.component.DatabaseDialect;
+import hexlet.code.dto.statsDto.WorkloadDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskWorkloadRepository {
+
+    public static final long UNASSIGNED = 0;
+
+    private static final String POSTGRESQL_ADD
+            = "INSERT INTO task_workload (assignee_id, task_status_id, task_count) VALUES (?, ?, ?) "
+            + "ON CONFLICT (assignee_id, task_status_id) "
+            + "DO UPDATE SET task_count = task_workload.task_count + EXCLUDED.task_count";
+
+    private static final String MERGE_ADD
+            = "MERGE INTO task_workload w USING (SELECT CAST(? AS BIGINT) AS assignee_id, "
+            + "CAST(? AS BIGINT) AS task_status_id, CAST(? AS BIGINT) AS delta) d "
+            + "ON w.assignee_id = d.assignee_id AND w.task_status_id = d.task_status_id "
+            + "WHEN MATCHED THEN UPDATE SET task_count = w.task_count + d.delta "
+            + "WHEN NOT MATCHED THEN INSERT (assignee_id, task_status_id, task_count) "
+            + "VALUES (d.assignee_id, d.task_status_id, d.delta)";
+
+    private static final String SELECT
+            = "SELECT w.assignee_id, s.slug, w.task_count FROM task_workload w "
+            + "JOIN task_statuses s ON s.id = w.task_status_id WHERE w.task_count > 0";
+
+    private static final String ORDER = " ORDER BY w.assignee_id, s.id";
+
+    private static final String REBUILD
+            = "INSERT INTO task_workload (assignee_id, task_status_id, task_count) "
+            + "SELECT COALESCE(assignee_id, " + UNASSIGNED + "), task_status_id, COUNT(*) FROM tasks "
+            + "GROUP BY COALESCE(assignee_id, " + UNASSIGNED + "), task_status_id";
+
+    // Transaction-scoped advisory lock that lets only one instance rebuild at a time
+    private static final long REBUILD_LOCK_KEY = "task_workload.rebuild".hashCode();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect databaseDialect;
+
+    public void add(Long assigneeId, Long taskStatusId, long delta) {
+        var sql = databaseDialect.isPostgresql() ? POSTGRESQL_ADD : MERGE_ADD;
+        jdbcTemplate.update(sql, toKey(assigneeId), taskStatusId, delta);
+    }
+
+    public List<WorkloadDTO> findAll(Long assigneeId) {
+        if (assigneeId == null) {
+            return jdbcTemplate.query(SELECT + ORDER, this::toDto);
+        }
+        return jdbcTemplate.query(SELECT + " AND w.assignee_id = ?" + ORDER, this::toDto, assigneeId);
+    }
+
+    // Must run in a transaction. On PostgreSQL the table lock makes concurrent task writes wait
+    // for the rebuilt counters instead of adjusting rows that are about to be replaced.
+    // Returns false without changes when another instance is already rebuilding.
+    public boolean rebuild() {
+        if (databaseDialect.isPostgresql()) {
+            var locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, REBUILD_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return false;
+            }
+            jdbcTemplate.execute("LOCK TABLE task_workload IN EXCLUSIVE MODE");
+        }
+        jdbcTemplate.update("DELETE FROM task_workload");
+        jdbcTemplate.update(REBUILD);
+        return true;
+    }
+
+    private WorkloadDTO toDto(ResultSet rs, int rowNum) throws SQLException {
+        var assigneeId = rs.getLong("assignee_id");
+        return new WorkloadDTO(
+                assigneeId == UNASSIGNED ? null : assigneeId,
+                rs.getString("slug"),
+                rs.getLong("task_count"));
+    }
+
+    private long toKey(Long assigneeId) {
+        return assigneeId == null ? UNASSIGNED : assigneeId;
+    }
+}
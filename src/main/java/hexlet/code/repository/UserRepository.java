@@ -1,5 +1,6 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.VersionView;
 import hexlet.code.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -9,4 +10,6 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    Optional<VersionView> findVersionById(Long id);
 }
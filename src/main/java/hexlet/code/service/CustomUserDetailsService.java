@@ -4,6 +4,7 @@ import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.UserDetailsManager;
@@ -11,7 +12,7 @@ import org.springframework.stereotype.Service;
 
 @Service
 @AllArgsConstructor
-public class CustomUserDetailsService implements UserDetailsManager {
+public class CustomUserDetailsService implements UserDetailsManager, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -32,6 +33,16 @@ public class CustomUserDetailsService implements UserDetailsManager {
         userRepository.save(user);
     }
 
+    // Called by DaoAuthenticationProvider after a successful login when the stored hash
+    // was produced with a lower cost factor than the configured one.
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        var user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        user.setPassword(newEncodedPassword);
+        return userRepository.save(user);
+    }
+
     @Override
     public void updateUser(UserDetails user) {
         throw new UnsupportedOperationException("Unimplemented method 'updateUser'");
@@ -1,5 +1,7 @@
 package hexlet.code.service;
 
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.dto.VersionView;
 import hexlet.code.dto.labelDto.LabelCreateDTO;
 import hexlet.code.dto.labelDto.LabelDTO;
 import hexlet.code.dto.labelDto.LabelUpdateDTO;
@@ -10,6 +12,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @AllArgsConstructor
@@ -19,16 +22,19 @@ public class LabelService {
 
     private final LabelMapper labelMapper;
 
+    private final ReferenceDataCache referenceDataCache;
+
     public List<LabelDTO> getAll() {
-        return labelRepository.findAll().stream()
-                .map(labelMapper::map)
-                .toList();
+        return referenceDataCache.findAllLabels();
+    }
+
+    public Optional<VersionView> findVersion(Long id) {
+        return labelRepository.findVersionById(id);
     }
 
     public LabelDTO findById(Long id) {
-        var label = labelRepository.findById(id)
+        return referenceDataCache.findLabelById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Label not found"));
-        return labelMapper.map(label);
     }
 
     public LabelDTO create(LabelCreateDTO dto) {
@@ -0,0 +1,336 @@
+package hexlet.code.service;
+
+import static hexlet.code.util.TransactionUtils.afterCommit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.component.TaskChangeFeed;
+import hexlet.code.dto.labelDto.LabelDTO;
+import hexlet.code.dto.taskDto.TaskBatchItemDTO;
+import hexlet.code.dto.taskDto.TaskBatchResultDTO;
+import hexlet.code.dto.taskDto.TaskCreateDTO;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.dto.taskDto.TaskUpdateDTO;
+import hexlet.code.dto.taskStatusDto.TaskStatusDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Task;
+import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskBatchService {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    public static final String CREATE = "create";
+
+    public static final String UPDATE = "update";
+
+    public static final String DELETE = "delete";
+
+    private static final String NAME_TAKEN = "Task with this name already exists";
+
+    private final TaskRepository taskRepository;
+
+    private final UserRepository userRepository;
+
+    private final TaskMapper taskMapper;
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private final TaskCountService taskCountService;
+
+    private final TaskChangeFeed taskChangeFeed;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    @Transactional
+    public List<TaskBatchResultDTO> execute(List<TaskBatchItemDTO> items) {
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch must contain at most " + MAX_BATCH_SIZE + " operations");
+        }
+
+        var operations = new ArrayList<Operation>();
+        for (var i = 0; i < items.size(); i++) {
+            operations.add(parse(i, items.get(i)));
+        }
+
+        var references = preload(operations);
+
+        for (var operation : operations) {
+            if (operation.result.getError() == null) {
+                apply(operation, references);
+            }
+        }
+
+        taskRepository.flush();
+        afterCommit(taskCountService::invalidate);
+
+        return operations.stream()
+                .map(this::complete)
+                .toList();
+    }
+
+    private Operation parse(int index, TaskBatchItemDTO item) {
+        var result = new TaskBatchResultDTO();
+        result.setIndex(index);
+        result.setAction(item.getAction());
+        result.setId(item.getId());
+
+        var operation = new Operation(result);
+        var action = item.getAction() == null ? "" : item.getAction().toLowerCase();
+        try {
+            switch (action) {
+                case CREATE -> operation.create = validate(
+                        objectMapper.treeToValue(item.getData(), TaskCreateDTO.class));
+                case UPDATE -> {
+                    requireId(item);
+                    operation.update = validate(objectMapper.treeToValue(item.getData(), TaskUpdateDTO.class));
+                }
+                case DELETE -> requireId(item);
+                default -> throw new BadRequestException("Unknown action: " + item.getAction());
+            }
+            operation.action = action;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            fail(result, "Invalid data");
+        } catch (BadRequestException e) {
+            fail(result, e.getMessage());
+        }
+        return operation;
+    }
+
+    // Resolves every reference used by the batch up front: one query each for statuses, labels,
+    // assignees, the tasks being updated or deleted and the existing tasks with the requested names.
+    private References preload(List<Operation> operations) {
+        var labelIds = new HashSet<Long>();
+        var assigneeIds = new HashSet<Long>();
+        var taskIds = new HashSet<Long>();
+        var names = new HashSet<String>();
+
+        for (var operation : operations) {
+            if (operation.create != null) {
+                addAllIfPresent(labelIds, operation.create.getTaskLabelIds());
+                addIfPresent(assigneeIds, operation.create.getAssigneeId());
+                addIfPresent(names, operation.create.getTitle());
+            }
+            if (operation.update != null) {
+                addAllIfPresent(labelIds, operation.update.getTaskLabelIds());
+                addIfPresent(assigneeIds, unwrap(operation.update.getAssigneeId()));
+                addIfPresent(names, unwrap(operation.update.getTitle()));
+            }
+            if (UPDATE.equals(operation.action) || DELETE.equals(operation.action)) {
+                taskIds.add(operation.result.getId());
+            }
+        }
+
+        var references = new References();
+        referenceDataCache.findAllTaskStatuses().stream()
+                .map(TaskStatusDTO::getSlug)
+                .forEach(references.statusSlugs::add);
+        if (!labelIds.isEmpty()) {
+            referenceDataCache.findLabelsByIds(labelIds).stream()
+                    .map(LabelDTO::getId)
+                    .forEach(references.labelIds::add);
+        }
+        if (!assigneeIds.isEmpty()) {
+            userRepository.findAllById(assigneeIds)
+                    .forEach(user -> references.usersById.put(user.getId(), user));
+        }
+        if (!names.isEmpty()) {
+            taskRepository.findAllByNameIn(names)
+                    .forEach(task -> references.ownersByName.put(task.getName(), task.getId()));
+        }
+        taskRepository.findAllById(taskIds)
+                .forEach(task -> references.tasksById.put(task.getId(), task));
+        return references;
+    }
+
+    private void apply(Operation operation, References references) {
+        var result = operation.result;
+        switch (operation.action) {
+            case CREATE -> {
+                var create = operation.create;
+                var error = findMissingReference(
+                        create.getStatus(), create.getAssigneeId(), create.getTaskLabelIds(), references);
+                if (error == null && !references.claimName(create.getTitle(), operation)) {
+                    error = NAME_TAKEN;
+                }
+                if (error != null) {
+                    fail(result, error);
+                    return;
+                }
+                var task = taskMapper.map(create);
+                task.setAssignee(references.usersById.get(create.getAssigneeId()));
+                taskRepository.save(task);
+                operation.task = task;
+                result.setStatus("created");
+            }
+            case UPDATE -> {
+                var task = references.tasksById.get(result.getId());
+                if (task == null) {
+                    fail(result, "Task not found");
+                    return;
+                }
+                var update = operation.update;
+                var error = findMissingReference(
+                        unwrap(update.getStatus()),
+                        unwrap(update.getAssigneeId()),
+                        update.getTaskLabelIds(),
+                        references);
+                if (error == null && !references.claimName(unwrap(update.getTitle()), task.getId())) {
+                    error = NAME_TAKEN;
+                }
+                if (error != null) {
+                    fail(result, error);
+                    return;
+                }
+                operation.before = taskMapper.map(task);
+                taskMapper.update(update, task);
+                if (isPresent(update.getAssigneeId())) {
+                    task.setAssignee(references.usersById.get(unwrap(update.getAssigneeId())));
+                }
+                operation.task = task;
+                result.setStatus("updated");
+            }
+            case DELETE -> {
+                var task = references.tasksById.remove(result.getId());
+                if (task == null) {
+                    fail(result, "Task not found");
+                    return;
+                }
+                operation.before = taskMapper.map(task);
+                taskRepository.delete(task);
+                result.setStatus("deleted");
+            }
+            default -> fail(result, "Unknown action: " + operation.action);
+        }
+    }
+
+    private TaskBatchResultDTO complete(Operation operation) {
+        var result = operation.result;
+        if (operation.task != null) {
+            result.setId(operation.task.getId());
+            result.setTask(taskMapper.map(operation.task));
+        }
+        if (operation.task != null || operation.before != null) {
+            taskChangeFeed.publish(operation.before, result.getTask());
+        }
+        return result;
+    }
+
+    private String findMissingReference(String status, Long assigneeId, List<Long> labelIds, References references) {
+        if (status != null && !references.statusSlugs.contains(status)) {
+            return "Status not found";
+        }
+        if (assigneeId != null && !references.usersById.containsKey(assigneeId)) {
+            return "Assignee not found";
+        }
+        if (labelIds != null && !references.labelIds.containsAll(labelIds)) {
+            return "Label not found";
+        }
+        return null;
+    }
+
+    private <T> T validate(T dto) {
+        if (dto == null) {
+            throw new BadRequestException("data is required");
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            var message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new BadRequestException(message);
+        }
+        return dto;
+    }
+
+    private void requireId(TaskBatchItemDTO item) {
+        if (item.getId() == null) {
+            throw new BadRequestException("id is required");
+        }
+    }
+
+    private void fail(TaskBatchResultDTO result, String error) {
+        result.setStatus("failed");
+        result.setError(error);
+    }
+
+    private static boolean isPresent(JsonNullable<?> value) {
+        return value != null && value.isPresent();
+    }
+
+    private static <T> T unwrap(JsonNullable<T> value) {
+        return value == null ? null : value.orElse(null);
+    }
+
+    private static <T> void addIfPresent(Set<T> target, T value) {
+        if (value != null) {
+            target.add(value);
+        }
+    }
+
+    private static <T> void addAllIfPresent(Set<T> target, List<T> values) {
+        if (values != null) {
+            target.addAll(values);
+        }
+    }
+
+    private static final class References {
+        private final Map<Long, Task> tasksById = new HashMap<>();
+        private final Map<Long, User> usersById = new HashMap<>();
+        private final Set<String> statusSlugs = new HashSet<>();
+        private final Set<Long> labelIds = new HashSet<>();
+        private final Map<String, Long> ownersByName = new HashMap<>();
+        private final Map<String, Object> claimsByName = new HashMap<>();
+
+        // A unique name violation would only surface at flush and abort the whole batch, so names are
+        // checked here. A name held by another task stays taken even if the batch deletes or renames
+        // that task, because Hibernate flushes inserts and updates before deletes.
+        private boolean claimName(String name, Object claimant) {
+            if (name == null) {
+                return true;
+            }
+            var owner = ownersByName.get(name);
+            if (owner != null && !owner.equals(claimant)) {
+                return false;
+            }
+            var previous = claimsByName.putIfAbsent(name, claimant);
+            return previous == null || previous.equals(claimant);
+        }
+    }
+
+    private static final class Operation {
+        private final TaskBatchResultDTO result;
+        private String action;
+        private TaskCreateDTO create;
+        private TaskUpdateDTO update;
+        private Task task;
+        private TaskDTO before;
+
+        private Operation(TaskBatchResultDTO result) {
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package hexlet.code.service;
+
+import hexlet.code.component.CountProperties;
+import hexlet.code.component.DatabaseDialect;
+import hexlet.code.dto.taskDto.TaskCountDTO;
+import hexlet.code.dto.taskDto.TaskParamsDTO;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.specification.TaskSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class TaskCountService {
+
+    private static final String POSTGRESQL_ESTIMATE
+            = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'tasks'::regclass";
+
+    private static final String H2_ESTIMATE
+            = "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'TASKS'";
+
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    private final TaskRepository taskRepository;
+
+    private final TaskSpecification specBuilder;
+
+    private final CountProperties countProperties;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final DatabaseDialect databaseDialect;
+
+    private volatile String estimateQuery;
+
+    public TaskCountDTO count(TaskParamsDTO params) {
+        if (Boolean.TRUE.equals(params.getEstimateCount()) && !hasFilters(params)) {
+            var estimate = estimateTotal();
+            if (estimate != null && estimate >= countProperties.getEstimateThreshold()) {
+                return new TaskCountDTO(estimate, true);
+            }
+        }
+
+        var key = toCacheKey(params);
+        var now = System.nanoTime();
+        var cached = cache.get(key);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return new TaskCountDTO(cached.value(), false);
+        }
+
+        var value = taskRepository.count(specBuilder.build(params));
+        store(key, new CachedCount(value, now + countProperties.getCacheTtl().toNanos()), now);
+        return new TaskCountDTO(value, false);
+    }
+
+    public void invalidate() {
+        cache.clear();
+    }
+
+    private void store(String key, CachedCount count, long now) {
+        if (countProperties.getCacheTtl().isZero()) {
+            return;
+        }
+        if (cache.size() >= countProperties.getCacheMaxEntries()) {
+            cache.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (cache.size() >= countProperties.getCacheMaxEntries()) {
+                cache.clear();
+            }
+        }
+        cache.put(key, count);
+    }
+
+    private Long estimateTotal() {
+        if (estimateQuery == null) {
+            estimateQuery = switch (databaseDialect.getProduct()) {
+                case DatabaseDialect.POSTGRESQL -> POSTGRESQL_ESTIMATE;
+                case DatabaseDialect.H2 -> H2_ESTIMATE;
+                default -> "";
+            };
+        }
+        return estimateQuery.isEmpty() ? null : jdbcTemplate.queryForObject(estimateQuery, Long.class);
+    }
+
+    private boolean hasFilters(TaskParamsDTO params) {
+        return params.getTitleCont() != null
+                || params.getAssigneeId() != null
+                || params.getStatus() != null
+                || params.getLabelId() != null
+                || params.getLabelIds() != null && !params.getLabelIds().isEmpty();
+    }
+
+    private String toCacheKey(TaskParamsDTO params) {
+        var labelIds = new TreeSet<Long>();
+        if (params.getLabelId() != null) {
+            labelIds.add(params.getLabelId());
+        }
+        if (params.getLabelIds() != null) {
+            labelIds.addAll(params.getLabelIds());
+        }
+        var labelMatch = params.getLabelMatch() == null
+                ? TaskSpecification.LABEL_MATCH_ANY
+                : params.getLabelMatch().toLowerCase();
+        var titleCont = params.getTitleCont() == null ? null : params.getTitleCont().toLowerCase();
+
+        return String.join("|",
+                String.valueOf(titleCont),
+                String.valueOf(params.getAssigneeId()),
+                String.valueOf(params.getStatus()),
+                labelIds.toString(),
+                labelMatch);
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+}
@@ -0,0 +1,101 @@
+package hexlet.code.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.ExportProperties;
+import hexlet.code.dto.taskDto.TaskCursor;
+import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.dto.taskDto.TaskExportFormat;
+import hexlet.code.dto.taskDto.TaskParamsDTO;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.specification.TaskSpecification;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class TaskExportService {
+
+    private static final List<String> CSV_HEADER = List.of(
+            "id", "index", "createdAt", "assignee_id", "title", "content", "status", "taskLabelIds");
+
+    private final TaskRepository taskRepository;
+
+    private final TaskSpecification specBuilder;
+
+    private final ObjectMapper objectMapper;
+
+    private final ExportProperties exportProperties;
+
+    @Transactional(readOnly = true)
+    public void export(TaskParamsDTO params, TaskExportFormat format, OutputStream outputStream) throws IOException {
+        var specification = specBuilder.build(params);
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == TaskExportFormat.CSV) {
+            writeCsvRow(writer, CSV_HEADER);
+        }
+
+        var fetchSize = exportProperties.getFetchSize();
+        try (var tasks = taskRepository.streamAsDto(specification, TaskCursor.SORT, fetchSize)) {
+            tasks.forEach(task -> write(writer, format, task));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private void write(Writer writer, TaskExportFormat format, TaskDTO task) {
+        try {
+            if (format == TaskExportFormat.CSV) {
+                writeCsvRow(writer, toCsvRow(task));
+            } else {
+                writer.write(objectMapper.writeValueAsString(task));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> toCsvRow(TaskDTO task) {
+        var labelIds = task.getTaskLabelIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(" "));
+        return List.of(
+                String.valueOf(task.getId()),
+                task.getIndex() == null ? "" : String.valueOf(task.getIndex()),
+                String.valueOf(task.getCreatedAt()),
+                task.getAssigneeId() == null ? "" : String.valueOf(task.getAssigneeId()),
+                task.getTitle(),
+                task.getContent() == null ? "" : task.getContent(),
+                task.getStatus(),
+                labelIds);
+    }
+
+    private void writeCsvRow(Writer writer, List<String> values) throws IOException {
+        var row = values.stream()
+                .map(this::escapeCsv)
+                .collect(Collectors.joining(","));
+        writer.write(row);
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
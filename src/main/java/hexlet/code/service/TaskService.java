@@ -1,33 +1,115 @@
 package hexlet.code.service;
 
+import static hexlet.code.util.TransactionUtils.afterCommit;
+
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.component.TaskChangeFeed;
+import hexlet.code.dto.VersionView;
+import hexlet.code.dto.taskDto.TaskBoardColumnDTO;
 import hexlet.code.dto.taskDto.TaskCreateDTO;
+import hexlet.code.dto.taskDto.TaskCursor;
 import hexlet.code.dto.taskDto.TaskDTO;
+import hexlet.code.dto.taskDto.TaskPageDTO;
 import hexlet.code.dto.taskDto.TaskParamsDTO;
 import hexlet.code.dto.taskDto.TaskUpdateDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.PreconditionFailedException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskMapper;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.specification.TaskSpecification;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class TaskService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    public static final int MAX_BOARD_SIZE = 100;
+
     private final TaskRepository taskRepository;
 
     private final TaskMapper taskMapper;
 
     private final TaskSpecification specBuilder;
 
+    private final TaskCountService taskCountService;
+
+    private final TaskChangeFeed taskChangeFeed;
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private final TransactionTemplate transactionTemplate;
+
     public List<TaskDTO> getAll(TaskParamsDTO params) {
         var specification = specBuilder.build(params);
-        return taskRepository.findAll(specification).stream()
-                .map(taskMapper::map)
-                .toList();
+        return taskRepository.findAllAsDto(specification, TaskCursor.SORT, null);
+    }
+
+    public TaskPageDTO getPage(TaskParamsDTO params) {
+        var limit = params.getLimit();
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        var cursor = params.getAfter() == null ? null : TaskCursor.decode(params.getAfter());
+        var specification = specBuilder.build(params)
+                .and(specBuilder.withCursor(cursor));
+
+        var tasks = taskRepository.findAllAsDto(specification, TaskCursor.SORT, limit + 1);
+        var hasNext = tasks.size() > limit;
+        var content = hasNext ? tasks.subList(0, limit) : tasks;
+
+        var page = new TaskPageDTO();
+        page.setData(content);
+        if (hasNext) {
+            page.setNextCursor(TaskCursor.of(content.get(limit - 1)).encode());
+        }
+
+        var count = taskCountService.count(params);
+        page.setTotalCount(count.getValue());
+        page.setTotalEstimated(count.isEstimated());
+        return page;
+    }
+
+    // Every status gets a column, including the ones without tasks matching the filter
+    public List<TaskBoardColumnDTO> getBoard(TaskParamsDTO params, int perStatus) {
+        if (perStatus < 1 || perStatus > MAX_BOARD_SIZE) {
+            throw new BadRequestException("perStatus must be between 1 and " + MAX_BOARD_SIZE);
+        }
+
+        var columns = taskRepository.findBoard(specBuilder.buildFilter(params), perStatus).stream()
+                .collect(Collectors.toMap(TaskBoardColumnDTO::getStatusId, Function.identity()));
+
+        var board = new ArrayList<TaskBoardColumnDTO>();
+        for (var status : referenceDataCache.findAllTaskStatuses()) {
+            var column = columns.get(status.getId());
+            if (column == null) {
+                column = new TaskBoardColumnDTO();
+                column.setStatusId(status.getId());
+                column.setStatus(status.getSlug());
+            }
+            column.setName(status.getName());
+            board.add(column);
+        }
+        return board;
+    }
+
+    public Optional<VersionView> findVersion(Long id) {
+        return taskRepository.findVersionById(id);
     }
 
     public TaskDTO findById(Long id) {
@@ -39,18 +121,60 @@ public class TaskService {
     public TaskDTO create(TaskCreateDTO dto) {
         var task = taskMapper.map(dto);
         taskRepository.save(task);
-        return taskMapper.map(task);
+        afterCommit(taskCountService::invalidate);
+        var created = taskMapper.map(task);
+        taskChangeFeed.publish(null, created);
+        return created;
     }
 
     public TaskDTO update(Long id, TaskUpdateDTO dto) {
+        return update(id, dto, null);
+    }
+
+    // With expected versions a concurrent change fails with 412. Without one the partial
+    // update is re-applied to a fresh copy, which is safe because it only sets the given fields.
+    // Each attempt has its own transaction, whose rollback also drops the stale copy.
+    public TaskDTO update(Long id, TaskUpdateDTO dto, Set<Long> expectedVersions) {
+        var attempt = 1;
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> tryUpdate(id, dto, expectedVersions));
+            } catch (OptimisticLockingFailureException e) {
+                if (expectedVersions != null) {
+                    throw new PreconditionFailedException("Task was modified concurrently");
+                }
+                if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                    throw e;
+                }
+                attempt++;
+            }
+        }
+    }
+
+    private TaskDTO tryUpdate(Long id, TaskUpdateDTO dto, Set<Long> expectedVersions) {
         var task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (expectedVersions != null && !expectedVersions.contains(task.getVersion())) {
+            throw new PreconditionFailedException("Task version does not match If-Match");
+        }
+        var before = taskMapper.map(task);
         taskMapper.update(dto, task);
-        taskRepository.save(task);
-        return taskMapper.map(task);
+        // Flushed here, so a conflict fails this attempt and the returned version is the new one
+        task = taskRepository.saveAndFlush(task);
+        afterCommit(taskCountService::invalidate);
+        var updated = taskMapper.map(task);
+        taskChangeFeed.publish(before, updated);
+        return updated;
     }
 
     public void delete(Long id) {
-        taskRepository.deleteById(id);
+        var task = taskRepository.findById(id);
+        if (task.isEmpty()) {
+            return;
+        }
+        var before = taskMapper.map(task.get());
+        taskRepository.delete(task.get());
+        afterCommit(taskCountService::invalidate);
+        taskChangeFeed.publish(before, null);
     }
 }
@@ -1,5 +1,7 @@
 package hexlet.code.service;
 
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.dto.VersionView;
 import hexlet.code.dto.taskStatusDto.TaskStatusCreateDTO;
 import hexlet.code.dto.taskStatusDto.TaskStatusDTO;
 import hexlet.code.dto.taskStatusDto.TaskStatusUpdateDTO;
@@ -10,6 +12,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @AllArgsConstructor
@@ -19,16 +22,19 @@ public class TaskStatusService {
 
     private final TaskStatusMapper taskStatusMapper;
 
+    private final ReferenceDataCache referenceDataCache;
+
     public List<TaskStatusDTO> getAll() {
-        return taskStatusRepository.findAll().stream()
-                .map(taskStatusMapper::map)
-                .toList();
+        return referenceDataCache.findAllTaskStatuses();
+    }
+
+    public Optional<VersionView> findVersion(Long id) {
+        return taskStatusRepository.findVersionById(id);
     }
 
     public TaskStatusDTO findById(Long id) {
-        var taskStatus = taskStatusRepository.findById(id)
+        return referenceDataCache.findTaskStatusById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task status not found"));
-        return taskStatusMapper.map(taskStatus);
     }
 
     public TaskStatusDTO create(TaskStatusCreateDTO dto) {
@@ -0,0 +1,27 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.statsDto.WorkloadDTO;
+import hexlet.code.repository.TaskWorkloadRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class TaskWorkloadService {
+
+    private final TaskWorkloadRepository workloadRepository;
+
+    public List<WorkloadDTO> getWorkload(Long assigneeId) {
+        return workloadRepository.findAll(assigneeId);
+    }
+
+    // Recomputes every counter from the tasks table, repairing drift from writes that bypassed Hibernate
+    // Returns false when another instance was already rebuilding
+    @Transactional
+    public boolean rebuild() {
+        return workloadRepository.rebuild();
+    }
+}
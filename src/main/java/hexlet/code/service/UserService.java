@@ -1,5 +1,6 @@
 package hexlet.code.service;
 
+import hexlet.code.dto.VersionView;
 import hexlet.code.dto.userDto.UserCreateDTO;
 import hexlet.code.dto.userDto.UserDTO;
 import hexlet.code.dto.userDto.UserUpdateDTO;
@@ -12,6 +13,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @AllArgsConstructor
@@ -32,6 +34,10 @@ public class UserService {
                 .toList();
     }
 
+    public Optional<VersionView> findVersion(Long id) {
+        return userRepository.findVersionById(id);
+    }
+
     public UserDTO findById(Long id) {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -52,10 +58,13 @@ public class UserService {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
+        var passwordChanged = dto.getPassword() != null && dto.getPassword().isPresent();
         userMapper.update(dto, user);
 
-        var hashedPassword = passwordEncoder.encode(user.getPassword());
-        user.setPassword(hashedPassword);
+        if (passwordChanged) {
+            var hashedPassword = passwordEncoder.encode(user.getPassword());
+            user.setPassword(hashedPassword);
+        }
 
         userRepository.save(user);
         return userMapper.map(user);
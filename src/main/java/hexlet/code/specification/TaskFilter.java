@@ -0,0 +1,27 @@
+package hexlet.code.specification;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A task filter that can be applied to a subquery as well as to a top-level query. Unlike a
+ * {@link Specification}, the subqueries it needs are created from the query it is applied to,
+ * so they stay inside a derived table such as the one the board query filters.
+ */
+@FunctionalInterface
+public interface TaskFilter {
+
+    Predicate toPredicate(Root<Task> root, CommonAbstractCriteria query, CriteriaBuilder cb);
+
+    default TaskFilter and(TaskFilter other) {
+        return (root, query, cb) -> cb.and(toPredicate(root, query, cb), other.toPredicate(root, query, cb));
+    }
+
+    default Specification<Task> toSpecification() {
+        return this::toPredicate;
+    }
+}
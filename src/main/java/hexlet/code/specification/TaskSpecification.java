@@ -1,41 +1,168 @@
 package hexlet.code.specification;
 
+import hexlet.code.component.TaskTitleIndex;
+import hexlet.code.dto.taskDto.TaskCursor;
+import hexlet.code.dto.taskDto.TaskDTO;
 import hexlet.code.dto.taskDto.TaskParamsDTO;
+import hexlet.code.exception.BadRequestException;
 import hexlet.code.model.Task;
+import lombok.AllArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
 @Component
+@AllArgsConstructor
 public class TaskSpecification {
 
+    public static final String LABEL_MATCH_ANY = "any";
+
+    public static final String LABEL_MATCH_ALL = "all";
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final TaskTitleIndex taskTitleIndex;
+
     public Specification<Task> build(TaskParamsDTO params) {
+        return buildFilter(params).toSpecification();
+    }
+
+    public TaskFilter buildFilter(TaskParamsDTO params) {
         return withTitleCont(params.getTitleCont())
                 .and(withAssigneeId(params.getAssigneeId()))
                 .and(withStatus(params.getStatus()))
-                .and(withLabelId(params.getLabelId()));
+                .and(withLabelIds(collectLabelIds(params), isMatchAll(params.getLabelMatch())));
     }
 
-    private Specification<Task> withTitleCont(String substring) {
-        return (root, query, cb) -> substring == null
-                ? cb.conjunction()
-                : cb.like(cb.lower(root.get("name")), "%" + substring + "%");
+    // The same filters evaluated in memory against a task representation, for pushed changes
+    public Predicate<TaskDTO> buildMatcher(TaskParamsDTO params) {
+        var titleCont = params.getTitleCont() == null ? null : params.getTitleCont().toLowerCase(Locale.ROOT);
+        var assigneeId = params.getAssigneeId();
+        var status = params.getStatus();
+        var labelIds = collectLabelIds(params);
+        var matchAll = isMatchAll(params.getLabelMatch());
+        return task -> (titleCont == null || containsIgnoreCase(task.getTitle(), titleCont))
+                && (assigneeId == null || assigneeId.equals(task.getAssigneeId()))
+                && (status == null || status.equals(task.getStatus()))
+                && hasLabels(task.getTaskLabelIds(), labelIds, matchAll);
+    }
+
+    private boolean containsIgnoreCase(String value, String lowerCaseSubstring) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerCaseSubstring);
+    }
+
+    private boolean hasLabels(List<Long> taskLabelIds, Set<Long> labelIds, boolean matchAll) {
+        if (labelIds.isEmpty()) {
+            return true;
+        }
+        var present = taskLabelIds == null ? List.<Long>of() : taskLabelIds;
+        return matchAll
+                ? present.containsAll(labelIds)
+                : labelIds.stream().anyMatch(present::contains);
+    }
+
+    private TaskFilter withTitleCont(String substring) {
+        return (root, query, cb) -> {
+            if (substring == null) {
+                return cb.conjunction();
+            }
+            var pattern = "%" + escapeLike(substring.toLowerCase(Locale.ROOT)) + "%";
+            var like = cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE);
+            return taskTitleIndex.findCandidates(substring)
+                    .map(ids -> cb.and(root.get("id").in(ids), like))
+                    .orElse(like);
+        };
     }
 
-    private Specification<Task> withAssigneeId(Long assigneeId) {
+    private String escapeLike(String value) {
+        return value.replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+
+    private TaskFilter withAssigneeId(Long assigneeId) {
         return (root, query, cb) -> assigneeId == null
                 ? cb.conjunction()
                 : cb.equal(root.get("assignee").get("id"), assigneeId);
     }
 
-    private Specification<Task> withStatus(String slug) {
+    private TaskFilter withStatus(String slug) {
         return (root, query, cb) -> slug == null
                 ? cb.conjunction()
                 : cb.equal(root.get("taskStatus").get("slug"), slug);
     }
 
-    private Specification<Task> withLabelId(Long labelId) {
-        return (root, query, cb) -> labelId == null
-                ? cb.conjunction()
-                : cb.equal(root.get("labels").get("id"), labelId);
+    // Label filters are semi-joins, so a task matching several labels is still returned once.
+    private TaskFilter withLabelIds(Set<Long> labelIds, boolean matchAll) {
+        if (labelIds.isEmpty()) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        return matchAll ? hasAllLabels(labelIds) : hasAnyLabel(labelIds);
+    }
+
+    private TaskFilter hasAnyLabel(Set<Long> labelIds) {
+        return (root, query, cb) -> {
+            var subquery = query.subquery(Integer.class);
+            var task = subquery.correlate(root);
+            var labels = task.join("labels");
+            subquery.select(cb.literal(1))
+                    .where(labels.get("id").in(labelIds));
+            return cb.exists(subquery);
+        };
+    }
+
+    private TaskFilter hasAllLabels(Set<Long> labelIds) {
+        return (root, query, cb) -> {
+            var subquery = query.subquery(Long.class);
+            var task = subquery.from(Task.class);
+            var labels = task.join("labels");
+            var taskId = task.<Long>get("id");
+            subquery.select(taskId)
+                    .where(labels.get("id").in(labelIds))
+                    .groupBy(taskId)
+                    .having(cb.equal(cb.countDistinct(labels.get("id")), (long) labelIds.size()));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    private boolean isMatchAll(String match) {
+        if (match == null || LABEL_MATCH_ANY.equalsIgnoreCase(match)) {
+            return false;
+        }
+        if (LABEL_MATCH_ALL.equalsIgnoreCase(match)) {
+            return true;
+        }
+        throw new BadRequestException("labelMatch must be either 'any' or 'all'");
+    }
+
+    private Set<Long> collectLabelIds(TaskParamsDTO params) {
+        var labelIds = new LinkedHashSet<Long>();
+        if (params.getLabelId() != null) {
+            labelIds.add(params.getLabelId());
+        }
+        if (params.getLabelIds() != null) {
+            labelIds.addAll(params.getLabelIds());
+        }
+        return labelIds;
+    }
+
+    public Specification<Task> withCursor(TaskCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            var createdAt = root.<LocalDateTime>get("createdAt");
+            return cb.or(
+                    cb.greaterThan(createdAt, cursor.getCreatedAt()),
+                    cb.and(
+                            cb.equal(createdAt, cursor.getCreatedAt()),
+                            cb.greaterThan(root.<Long>get("id"), cursor.getId())));
+        };
     }
 }
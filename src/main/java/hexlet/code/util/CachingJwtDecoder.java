@@ -0,0 +1,71 @@
+package hexlet.code.util;
+
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Remembers successfully verified tokens, keyed by their SHA-256 digest, until they expire,
+ * so repeated requests with the same token skip signature verification and claim validation.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final LruCache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, Duration maxTtl) {
+        this.delegate = delegate;
+        this.cache = new LruCache<>(maxSize, maxTtl);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var key = digest(token);
+        var cached = cache.getIfPresent(key);
+        var now = Instant.now();
+        if (cached != null && isUnexpired(cached, now)) {
+            return cached;
+        }
+
+        var jwt = delegate.decode(token);
+        var expiresAt = jwt.getExpiresAt();
+        if (expiresAt != null && expiresAt.isAfter(now)) {
+            cache.put(key, jwt, Duration.between(now, expiresAt));
+        }
+        return jwt;
+    }
+
+    public long getHits() {
+        return cache.getHits();
+    }
+
+    public long getMisses() {
+        return cache.getMisses();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private boolean isUnexpired(Jwt jwt, Instant now) {
+        return jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(now);
+    }
+
+    private String digest(String token) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BadJwtException("SHA-256 is not available", e);
+        }
+    }
+}
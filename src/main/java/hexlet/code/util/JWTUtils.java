@@ -13,15 +13,18 @@ import java.time.temporal.ChronoUnit;
 @AllArgsConstructor
 public class JWTUtils {
 
+    public static final String USER_ID_CLAIM = "uid";
+
     private final JwtEncoder encoder;
 
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         Instant now = Instant.now();
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .build();
         return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
     }
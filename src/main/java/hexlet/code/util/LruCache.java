@@ -0,0 +1,96 @@
+package hexlet.code.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Small size-bounded LRU map with per-entry expiry and hit/miss counters.
+ */
+public class LruCache<K, V> {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<K, Entry<V>> entries;
+
+    private final long ttlNanos;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    public LruCache(int maxSize, Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(maxSize, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        var cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        var value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public V getIfPresent(K key) {
+        var now = System.nanoTime();
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                hits.incrementAndGet();
+                return entry.value();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, ttlNanos);
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        put(key, value, Math.min(ttl.toNanos(), ttlNanos));
+    }
+
+    private void put(K key, V value, long entryTtlNanos) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + entryTtlNanos));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
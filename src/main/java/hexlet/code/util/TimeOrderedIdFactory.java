@@ -0,0 +1,73 @@
+package hexlet.code.util;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Generates time-ordered 53-bit ids: 40 bits of milliseconds since {@link #EPOCH}, 5 bits of node
+ * and an 8-bit per-millisecond counter. The width keeps ids exact as JSON numbers in JavaScript clients.
+ */
+public final class TimeOrderedIdFactory {
+
+    public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    public static final int NODE_BITS = 5;
+
+    public static final int COUNTER_BITS = 8;
+
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private static volatile TimeOrderedIdFactory defaultFactory;
+
+    private final long node;
+
+    private final Clock clock;
+
+    private long lastTimestamp = -1;
+
+    private long counter;
+
+    public TimeOrderedIdFactory(int node, Clock clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("Node must be between 0 and " + MAX_NODE);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    // Set once on startup from the configured id node, before the first entity is persisted
+    public static void initDefault(int node) {
+        defaultFactory = new TimeOrderedIdFactory(node, Clock.systemUTC());
+    }
+
+    public static TimeOrderedIdFactory getDefault() {
+        var factory = defaultFactory;
+        if (factory == null) {
+            throw new IllegalStateException("The id node has not been initialized");
+        }
+        return factory;
+    }
+
+    public long getNode() {
+        return node;
+    }
+
+    public synchronized long next() {
+        // Never step back: a clock that moves backwards keeps using the last timestamp,
+        // and an exhausted counter borrows the next millisecond.
+        var timestamp = Math.max(clock.millis() - EPOCH.toEpochMilli(), lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            counter++;
+            if (counter > MAX_COUNTER) {
+                timestamp++;
+                counter = 0;
+            }
+        } else {
+            counter = 0;
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + COUNTER_BITS)) | (node << COUNTER_BITS) | counter;
+    }
+}
@@ -0,0 +1,62 @@
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE task_statuses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE labels_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id BIGINT NOT NULL,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    password VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    version BIGINT,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE task_statuses (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    slug VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    version BIGINT,
+    CONSTRAINT pk_task_statuses PRIMARY KEY (id),
+    CONSTRAINT uk_task_statuses_name UNIQUE (name),
+    CONSTRAINT uk_task_statuses_slug UNIQUE (slug)
+);
+
+CREATE TABLE labels (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    version BIGINT,
+    CONSTRAINT pk_labels PRIMARY KEY (id),
+    CONSTRAINT uk_labels_name UNIQUE (name)
+);
+
+CREATE TABLE tasks (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    index BIGINT,
+    description VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    version BIGINT,
+    task_status_id BIGINT NOT NULL,
+    assignee_id BIGINT,
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT uk_tasks_name UNIQUE (name),
+    CONSTRAINT fk_tasks_task_status FOREIGN KEY (task_status_id) REFERENCES task_statuses (id),
+    CONSTRAINT fk_tasks_assignee FOREIGN KEY (assignee_id) REFERENCES users (id)
+);
+
+CREATE TABLE tasks_labels (
+    task_id BIGINT NOT NULL,
+    label_id BIGINT NOT NULL,
+    CONSTRAINT pk_tasks_labels PRIMARY KEY (task_id, label_id),
+    CONSTRAINT fk_tasks_labels_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_tasks_labels_label FOREIGN KEY (label_id) REFERENCES labels (id)
+);
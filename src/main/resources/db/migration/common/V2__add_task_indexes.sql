@@ -0,0 +1,9 @@
+-- Keyset pagination orders by (created_at, id)
+CREATE INDEX idx_tasks_created_at_id ON tasks (created_at, id);
+
+-- assigneeId and status filters, and the foreign key checks when a user or status is deleted
+CREATE INDEX idx_tasks_assignee_id ON tasks (assignee_id);
+CREATE INDEX idx_tasks_task_status_id ON tasks (task_status_id);
+
+-- labelId/labelIds filters and the foreign key check on label deletion; the primary key already covers lookups by task
+CREATE INDEX idx_tasks_labels_label_task ON tasks_labels (label_id, task_id);
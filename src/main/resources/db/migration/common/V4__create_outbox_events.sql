@@ -0,0 +1,9 @@
+CREATE TABLE outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(32) NOT NULL,
+    version BIGINT,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
@@ -0,0 +1,13 @@
+-- Task counts per assignee and status, kept up to date on every task write.
+-- Unassigned tasks are counted under assignee_id 0, which no user can have.
+CREATE TABLE task_workload (
+    assignee_id BIGINT NOT NULL,
+    task_status_id BIGINT NOT NULL,
+    task_count BIGINT NOT NULL,
+    CONSTRAINT pk_task_workload PRIMARY KEY (assignee_id, task_status_id)
+);
+
+INSERT INTO task_workload (assignee_id, task_status_id, task_count)
+SELECT COALESCE(assignee_id, 0), task_status_id, COUNT(*)
+FROM tasks
+GROUP BY COALESCE(assignee_id, 0), task_status_id;
@@ -0,0 +1,12 @@
+-- One row per entity type, bumped in every transaction that writes that type.
+-- List and show responses derive their ETag and Last-Modified from these rows.
+CREATE TABLE change_stamps (
+    entity VARCHAR(64) NOT NULL,
+    counter BIGINT NOT NULL,
+    changed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_change_stamps PRIMARY KEY (entity)
+);
+
+INSERT INTO change_stamps (entity, counter, changed_at) VALUES ('Label', 0, CURRENT_TIMESTAMP);
+INSERT INTO change_stamps (entity, counter, changed_at) VALUES ('Task', 0, CURRENT_TIMESTAMP);
+INSERT INTO change_stamps (entity, counter, changed_at) VALUES ('TaskStatus', 0, CURRENT_TIMESTAMP);
@@ -0,0 +1,8 @@
+-- List validators are now derived from the row count and latest updated_at of each table,
+-- so writes no longer queue on a shared counter row.
+DROP TABLE change_stamps;
+
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at);
+CREATE INDEX idx_task_statuses_updated_at ON task_statuses (updated_at);
+CREATE INDEX idx_labels_updated_at ON labels (updated_at);
+CREATE INDEX idx_users_updated_at ON users (updated_at);
@@ -0,0 +1,5 @@
+-- Keyset pagination compares created_at, so a task without one could be neither paged past nor encoded in a cursor.
+-- Rows written before auditing set it fall back to their last update, or to the migration time.
+UPDATE tasks SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+
+ALTER TABLE tasks ALTER COLUMN created_at SET NOT NULL;
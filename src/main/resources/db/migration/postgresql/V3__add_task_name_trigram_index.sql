@@ -0,0 +1,4 @@
+-- titleCont is a case-insensitive substring match, which only a trigram index can serve
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_tasks_name_trgm ON tasks USING gin (lower(name) gin_trgm_ops);
@@ -2,26 +2,47 @@ package hexlet.code.controller.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.dto.AuthRequest;
+import hexlet.code.util.CachingJwtDecoder;
+import hexlet.code.util.GatedPasswordEncoder;
 import hexlet.code.util.UserUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.Executors;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 public class AuthenticationControllerTest {
 
+    private static final long SATURATION_WAIT_MILLIS = 5000;
+
+    private static final long SATURATION_POLL_MILLIS = 10;
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private GatedPasswordEncoder passwordEncoder;
+
     @Test
     public void testCreateAdmin() throws Exception {
         var authRequest = new AuthRequest();
@@ -35,4 +56,66 @@ public class AuthenticationControllerTest {
         mockMvc.perform(request)
                 .andExpect(status().isOk());
     }
+
+    @Test
+    public void testRequestsWithIssuedToken() throws Exception {
+        var authRequest = new AuthRequest();
+        authRequest.setUsername(UserUtils.ADMIN_EMAIL);
+        authRequest.setPassword(UserUtils.ADMIN_PASSWORD);
+
+        var request = post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(authRequest));
+
+        var token = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(jwtDecoder).isInstanceOf(CachingJwtDecoder.class);
+        var decoder = (CachingJwtDecoder) jwtDecoder;
+        var hits = decoder.getHits();
+        var misses = decoder.getMisses();
+
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Only the first request verifies the signature, the second one is served from the cache
+        assertThat(decoder.getMisses()).isEqualTo(misses + 1);
+        assertThat(decoder.getHits()).isEqualTo(hits + 1);
+
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + token + "x"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testBasicAuthWhenHashingIsOverloaded() throws Exception {
+        var basic = httpBasic(UserUtils.ADMIN_EMAIL, UserUtils.ADMIN_PASSWORD);
+        var hash = passwordEncoder.encode(UserUtils.ADMIN_PASSWORD);
+        var callers = Executors.newFixedThreadPool(2);
+
+        passwordEncoder.hold();
+        try {
+            // One call occupies the only hashing thread, the other one the only queue slot
+            callers.submit(() -> passwordEncoder.matches(UserUtils.ADMIN_PASSWORD, hash));
+            callers.submit(() -> passwordEncoder.matches(UserUtils.ADMIN_PASSWORD, hash));
+            var deadline = System.currentTimeMillis() + SATURATION_WAIT_MILLIS;
+            while (passwordEncoder.getQueueDepth() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(SATURATION_POLL_MILLIS);
+            }
+
+            mockMvc.perform(get("/api/users").with(basic))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        } finally {
+            passwordEncoder.release();
+            callers.shutdown();
+        }
+
+        mockMvc.perform(get("/api/users").with(basic))
+                .andExpect(status().isOk());
+    }
 }
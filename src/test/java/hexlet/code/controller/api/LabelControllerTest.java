@@ -23,7 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -49,6 +51,9 @@ public class LabelControllerTest {
     @Autowired
     private TestUtils testUtils;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private JwtRequestPostProcessor token;
 
     @BeforeEach
@@ -77,6 +82,75 @@ public class LabelControllerTest {
         assertThat(labels).containsAll(expected);
     }
 
+    @Test
+    public void testIndexNotModified() throws Exception {
+        var label = testUtils.generateLabel();
+        labelRepository.save(label);
+
+        var etag = mockMvc.perform(get("/api/labels").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/labels").with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        label.setName(label.getName() + " changed");
+        labelRepository.save(label);
+
+        mockMvc.perform(get("/api/labels").with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    // Rows written without Hibernate, for example by another service sharing the database
+    @Test
+    public void testIndexFollowsRowsWrittenElsewhere() throws Exception {
+        var label = testUtils.generateLabel();
+        labelRepository.save(label);
+
+        var etag = mockMvc.perform(get("/api/labels").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        jdbcTemplate.update("DELETE FROM labels WHERE id = ?", label.getId());
+
+        mockMvc.perform(get("/api/labels").with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testShowNotModified() throws Exception {
+        var label = testUtils.generateLabel();
+        labelRepository.save(label);
+        var other = testUtils.generateLabel();
+        other.setName(label.getName() + " other");
+        labelRepository.save(other);
+        var path = "/api/labels/" + label.getId();
+
+        var etag = mockMvc.perform(get(path).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"" + label.getVersion() + "-");
+
+        other.setName(other.getName() + " changed");
+        labelRepository.save(other);
+
+        mockMvc.perform(get(path).with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        label.setName(label.getName() + " changed");
+        labelRepository.save(label);
+
+        mockMvc.perform(get(path).with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testShow() throws Exception {
         var label = testUtils.generateLabel();
@@ -0,0 +1,118 @@
+package hexlet.code.controller.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.statsDto.WorkloadDTO;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskWorkloadService;
+import hexlet.code.util.TestUtils;
+import hexlet.code.util.UserUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class StatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskWorkloadService workloadService;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private TestUtils testUtils;
+
+    private JwtRequestPostProcessor token;
+
+    @BeforeEach
+    public void setUp() {
+        token = jwt().jwt(builder -> builder.subject(UserUtils.ADMIN_EMAIL));
+    }
+
+    @AfterEach
+    public void clean() {
+        testUtils.clean();
+    }
+
+    @Test
+    public void testWorkload() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var second = new Task();
+        second.setName(task.getName() + " second");
+        second.setTaskStatus(task.getTaskStatus());
+        second.setAssignee(task.getAssignee());
+        taskRepository.save(second);
+        var other = testUtils.generateTask();
+        taskRepository.save(other);
+
+        var assigneeId = task.getAssignee().getId();
+        var status = task.getTaskStatus().getSlug();
+        var otherStatus = other.getTaskStatus().getSlug();
+
+        assertThat(workload(assigneeId)).containsExactlyEntriesOf(Map.of(status, 2L));
+
+        mockMvc.perform(put("/api/tasks/" + second.getId())
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("status", otherStatus))))
+                .andExpect(status().isOk());
+
+        assertThat(workload(assigneeId)).containsOnly(Map.entry(status, 1L), Map.entry(otherStatus, 1L));
+    }
+
+    @Test
+    public void testRebuild() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var assigneeId = task.getAssignee().getId();
+
+        jdbcTemplate.update("DELETE FROM task_workload");
+        assertThat(workload(assigneeId)).isEmpty();
+
+        assertThat(workloadService.rebuild()).isTrue();
+
+        assertThat(workload(assigneeId)).containsExactlyEntriesOf(Map.of(task.getTaskStatus().getSlug(), 1L));
+    }
+
+    private Map<String, Long> workload(Long assigneeId) throws Exception {
+        var body = mockMvc.perform(get("/api/stats/workload?assigneeId=" + assigneeId).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<WorkloadDTO> rows = om.readValue(body, new TypeReference<>() { });
+        return rows.stream()
+                .collect(Collectors.toMap(WorkloadDTO::getStatus, WorkloadDTO::getCount));
+    }
+}
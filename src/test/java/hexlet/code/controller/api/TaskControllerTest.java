@@ -1,20 +1,42 @@
 package hexlet.code.controller.api;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.CountProperties;
+import hexlet.code.component.OutboxDispatcher;
+import hexlet.code.component.OutboxListener;
+import hexlet.code.component.ServiceMetricsAspect;
+import hexlet.code.component.SqlMetricsFilter;
+import hexlet.code.component.SqlStatementRecorder;
+import hexlet.code.component.TaskTitleIndex;
+import hexlet.code.dto.OutboxEvent;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import hexlet.code.service.TaskService;
+import hexlet.code.util.ConflictingTaskMapper;
+import hexlet.code.util.InMemoryOutboxSink;
+import hexlet.code.util.QueryCounter;
 import hexlet.code.util.TestUtils;
 import hexlet.code.util.UserUtils;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import net.javacrumbs.jsonunit.core.Option;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,24 +44,57 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
 import hexlet.code.repository.TaskRepository;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 public class TaskControllerTest {
 
+    private static final int BUDGET_TASKS = 5;
+
+    private static final int PAGED_TASKS = 3;
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    // Each budget includes the change stamp lookup behind the ETag
+    private static final int INDEX_QUERY_BUDGET = 3;
+
+    private static final int PAGE_QUERY_BUDGET = 4;
+
+    private static final int SHOW_QUERY_BUDGET = 4;
+
+    private static final int BOARD_TASKS = 3;
+
+    private static final int BOARD_PER_STATUS = 2;
+
+    private static final int BOARD_QUERY_BUDGET = 3;
+
+    private static final long STREAM_WAIT_MILLIS = 5000;
+
+    private static final long STREAM_POLL_MILLIS = 20;
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private LabelRepository labelRepository;
+
     @Autowired
     private TaskMapper taskMapper;
 
@@ -49,6 +104,33 @@ public class TaskControllerTest {
     @Autowired
     private TestUtils testUtils;
 
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private InMemoryOutboxSink outboxSink;
+
+    @Autowired
+    private ConflictingTaskMapper conflictingTaskMapper;
+
+    @Autowired
+    private CountProperties countProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskTitleIndex taskTitleIndex;
+
     private JwtRequestPostProcessor token;
 
     @BeforeEach
@@ -118,6 +200,240 @@ public class TaskControllerTest {
                 .contains(om.writeValueAsString(data));
     }
 
+    @Test
+    public void testIndexFilteredByTitleAfterRename() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+
+        var data = new HashMap<>();
+        data.put("title", "Renamed searchable task");
+
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        var result = mockMvc.perform(get("/api/tasks?titleCont=SEARCHABLE").with(token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).isArray().hasSize(1);
+        assertThat(om.readTree(body).get(0).get("id").asLong()).isEqualTo(task.getId());
+    }
+
+    // The title index may lag behind the table, so a miss there must not hide the task
+    @Test
+    public void testIndexFilteredByTitleMissingFromTitleIndex() throws Exception {
+        var task = testUtils.generateTask();
+        task.setName("Unindexed searchable task");
+        taskRepository.save(task);
+        taskTitleIndex.remove(task.getId());
+
+        var body = mockMvc.perform(get("/api/tasks?titleCont=unindexed").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(body).isArray().hasSize(1);
+        assertThat(om.readTree(body).get(0).get("id").asLong()).isEqualTo(task.getId());
+    }
+
+    @Test
+    public void testIndexFilteredByLabelIds() throws Exception {
+        var taskWithBoth = testUtils.generateTask();
+        var firstLabel = taskWithBoth.getLabels().iterator().next();
+        var secondLabel = testUtils.generateLabel();
+        labelRepository.save(secondLabel);
+        taskWithBoth.getLabels().add(secondLabel);
+        taskRepository.save(taskWithBoth);
+
+        var taskWithFirst = testUtils.generateTask();
+        taskWithFirst.getLabels().add(firstLabel);
+        taskRepository.save(taskWithFirst);
+
+        var labelIds = firstLabel.getId() + "," + secondLabel.getId();
+
+        var anyResult = mockMvc.perform(get("/api/tasks?labelIds=" + labelIds).with(token))
+                .andExpect(status().isOk())
+                .andReturn();
+        var anyIds = om.readTree(anyResult.getResponse().getContentAsString()).findValuesAsText("id");
+        assertThat(anyIds).containsExactlyInAnyOrder(
+                String.valueOf(taskWithBoth.getId()),
+                String.valueOf(taskWithFirst.getId()));
+
+        var allResult = mockMvc.perform(get("/api/tasks?labelMatch=all&labelIds=" + labelIds).with(token))
+                .andExpect(status().isOk())
+                .andReturn();
+        var allIds = om.readTree(allResult.getResponse().getContentAsString()).findValuesAsText("id");
+        assertThat(allIds).containsExactly(String.valueOf(taskWithBoth.getId()));
+    }
+
+    @Test
+    public void testIndexWithSeveralLabels() throws Exception {
+        var task = testUtils.generateTask();
+        var label = testUtils.generateLabel();
+        labelRepository.save(label);
+        task.getLabels().add(label);
+        taskRepository.save(task);
+
+        var expectedLabelIds = task.getLabels().stream()
+                .map(Label::getId)
+                .toList();
+
+        var result = mockMvc.perform(get("/api/tasks").with(token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).isArray().hasSize(1);
+
+        var labelIds = om.readTree(body).get(0).get("taskLabelIds");
+        assertThatJson(labelIds).when(Option.IGNORING_ARRAY_ORDER)
+                .isEqualTo(expectedLabelIds);
+    }
+
+    @Test
+    public void testIndexPaged() throws Exception {
+        for (var i = 0; i < PAGED_TASKS; i++) {
+            taskRepository.save(testUtils.generateTask());
+        }
+
+        var firstPage = mockMvc.perform(get("/api/tasks?limit=2").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Link"))
+                .andExpect(header().string("X-Total-Count", String.valueOf(PAGED_TASKS)))
+                .andReturn();
+
+        var firstBody = firstPage.getResponse().getContentAsString();
+        assertThatJson(firstBody).isArray().hasSize(2);
+
+        var cursor = firstPage.getResponse().getHeader("X-Next-Cursor");
+        var secondPage = mockMvc.perform(get("/api/tasks?limit=2&after=" + cursor).with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Link"))
+                .andReturn();
+
+        var secondBody = secondPage.getResponse().getContentAsString();
+        var firstIds = om.readTree(firstBody).findValuesAsText("id");
+        var secondIds = om.readTree(secondBody).findValuesAsText("id");
+
+        assertThat(secondIds).hasSize(1);
+        assertThat(firstIds).doesNotContainAnyElementsOf(secondIds);
+    }
+
+    @Test
+    public void testIndexPagedCountFollowsWrites() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        expectTotalCount("1");
+
+        var created = testUtils.generateTask();
+        var data = new HashMap<>();
+        data.put("title", created.getName());
+        data.put("status", created.getTaskStatus().getSlug());
+        mockMvc.perform(post("/api/tasks")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isCreated());
+        expectTotalCount("2");
+
+        mockMvc.perform(delete("/api/tasks/" + task.getId()).with(token))
+                .andExpect(status().isNoContent());
+        expectTotalCount("1");
+    }
+
+    @Test
+    public void testIndexPagedEstimatesCountAboveThreshold() throws Exception {
+        taskRepository.save(testUtils.generateTask());
+
+        var threshold = countProperties.getEstimateThreshold();
+        countProperties.setEstimateThreshold(0);
+        try {
+            mockMvc.perform(get("/api/tasks?limit=2&estimateCount=true").with(token))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Total-Count-Estimated", "true"));
+        } finally {
+            countProperties.setEstimateThreshold(threshold);
+        }
+
+        mockMvc.perform(get("/api/tasks?limit=2&estimateCount=true").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count-Estimated"))
+                .andExpect(header().string("X-Total-Count", "1"));
+    }
+
+    private void expectTotalCount(String expected) throws Exception {
+        mockMvc.perform(get("/api/tasks?limit=2").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", expected))
+                .andExpect(header().doesNotExist("X-Total-Count-Estimated"));
+    }
+
+    @Test
+    public void testIndexPagedWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks?limit=2&after=broken").with(token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testExportNdjson() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var requestStatements = meterRegistry.summary(SqlMetricsFilter.STATEMENTS_METRIC,
+                "method", "GET", "uri", "/api/tasks/export");
+        var requestCount = requestStatements.count();
+        var requestTotal = requestStatements.totalAmount();
+
+        var asyncResult = mockMvc.perform(get("/api/tasks/export?format=ndjson").with(token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString().lines().toList();
+        assertThat(lines).hasSize(1);
+        assertThatJson(lines.get(0)).and(
+                json -> json.node("id").isEqualTo(task.getId()),
+                json -> json.node("title").isEqualTo(task.getName()),
+                json -> json.node("status").isEqualTo(task.getTaskStatus().getSlug())
+        );
+        // Recorded once the body has been streamed, with the statements run on the async thread
+        assertThat(requestStatements.count()).isEqualTo(requestCount + 1);
+        assertThat(requestStatements.totalAmount()).isGreaterThan(requestTotal);
+    }
+
+    @Test
+    public void testExportCsv() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+
+        var asyncResult = mockMvc.perform(get("/api/tasks/export?format=csv").with(token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString().lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("id,index,createdAt");
+        assertThat(lines.get(1)).startsWith(task.getId() + "," + task.getIndex() + ",");
+    }
+
+    @Test
+    public void testExportUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/tasks/export?format=xml").with(token))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testShow() throws Exception {
         var task = testUtils.generateTask();
@@ -142,6 +458,121 @@ public class TaskControllerTest {
         assertThat(receivedTask).isEqualTo(task);
     }
 
+    @Test
+    public void testReadsWithinQueryBudget() throws Exception {
+        var first = testUtils.generateTask();
+        taskRepository.save(first);
+        for (var i = 1; i < BUDGET_TASKS; i++) {
+            var task = new Task();
+            task.setName(first.getName() + " " + i);
+            task.setTaskStatus(first.getTaskStatus());
+            task.setAssignee(first.getAssignee());
+            task.setLabels(new HashSet<>(first.getLabels()));
+            taskRepository.save(task);
+        }
+
+        queryCounter.perform(mockMvc, get("/api/tasks").with(token), INDEX_QUERY_BUDGET)
+                .andExpect(status().isOk());
+        queryCounter.perform(mockMvc, get("/api/tasks?limit=2").with(token), PAGE_QUERY_BUDGET)
+                .andExpect(status().isOk());
+        queryCounter.perform(mockMvc, get("/api/tasks/" + first.getId()).with(token), SHOW_QUERY_BUDGET)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testIndexIsInstrumented() throws Exception {
+        taskRepository.save(testUtils.generateTask());
+
+        var serviceCalls = meterRegistry.timer(ServiceMetricsAspect.METRIC_NAME,
+                "class", "TaskService", "method", "getAll", "exception", "none");
+        var requestStatements = meterRegistry.summary(SqlMetricsFilter.STATEMENTS_METRIC,
+                "method", "GET", "uri", "/api/tasks");
+        var selects = meterRegistry.timer(SqlStatementRecorder.METRIC_NAME, "type", "select", "batch", "false");
+        var serviceCount = serviceCalls.count();
+        var requestCount = requestStatements.count();
+        var requestTotal = requestStatements.totalAmount();
+        var selectCount = selects.count();
+
+        mockMvc.perform(get("/api/tasks").with(token))
+                .andExpect(status().isOk());
+
+        assertThat(serviceCalls.count()).isEqualTo(serviceCount + 1);
+        assertThat(requestStatements.count()).isEqualTo(requestCount + 1);
+        assertThat(requestStatements.totalAmount() - requestTotal).isBetween(1.0, (double) INDEX_QUERY_BUDGET);
+        assertThat(selects.count()).isGreaterThan(selectCount);
+    }
+
+    @Test
+    public void testPrometheusRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testShowTakesStatusFromSecondLevelCache() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+
+        var result = queryCounter.perform(mockMvc, get("/api/tasks/" + task.getId()).with(token), SHOW_QUERY_BUDGET)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThatJson(result.getResponse().getContentAsString())
+                .node("status").isEqualTo(task.getTaskStatus().getSlug());
+        assertThat(queryCounter.getLastStatements())
+                .noneMatch(statement -> statement.contains("task_statuses"));
+    }
+
+    @Test
+    public void testIndexNotModified() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+
+        var etag = mockMvc.perform(get("/api/tasks").with(token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/tasks").with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/tasks?limit=1").with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        task.setName(task.getName() + " changed");
+        taskRepository.save(task);
+
+        mockMvc.perform(get("/api/tasks").with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testShowNotModified() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var path = "/api/tasks/" + task.getId();
+
+        var etag = mockMvc.perform(get(path).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get(path).with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        task.setDescription("changed");
+        taskRepository.save(task);
+
+        mockMvc.perform(get(path).with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testCreate() throws Exception {
         var task = testUtils.generateTask();
@@ -202,6 +633,371 @@ public class TaskControllerTest {
         assertThat(task.getName()).isEqualTo(newTitle);
     }
 
+    @Test
+    public void testBatch() throws Exception {
+        var updated = testUtils.generateTask();
+        taskRepository.save(updated);
+        var deleted = testUtils.generateTask();
+        taskRepository.save(deleted);
+        var created = testUtils.generateTask();
+
+        var status = created.getTaskStatus().getSlug();
+
+        var createData = new HashMap<>();
+        createData.put("title", created.getName());
+        createData.put("status", status);
+
+        var items = List.of(
+                Map.of("action", "create", "data", createData),
+                Map.of("action", "update", "id", updated.getId(), "data", Map.of("title", "batch title")),
+                Map.of("action", "delete", "id", deleted.getId()),
+                Map.of("action", "delete", "id", MISSING_ID),
+                Map.of("action", "archive", "id", updated.getId()),
+                Map.of("action", "create"),
+                Map.of("action", "create", "data", Map.of("title", "no assignee", "status", status,
+                        "assignee_id", MISSING_ID)),
+                Map.of("action", "create", "data", Map.of("title", "no label", "status", status,
+                        "taskLabelIds", List.of(MISSING_ID))),
+                Map.of("action", "create", "data", createData),
+                Map.of("action", "update", "id", updated.getId(), "data", Map.of("title", deleted.getName())));
+
+        var request = post("/api/tasks/batch")
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(items));
+
+        var body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var results = om.readTree(body);
+        assertThat(results).hasSize(items.size());
+        var statuses = new ArrayList<String>();
+        var errors = new ArrayList<String>();
+        results.forEach(result -> {
+            statuses.add(result.get("status").asText());
+            errors.add(result.path("error").asText(null));
+        });
+        assertThat(statuses).containsExactly(
+                "created", "updated", "deleted", "failed", "failed", "failed", "failed", "failed", "failed", "failed");
+        assertThat(errors).containsExactly(
+                null,
+                null,
+                null,
+                "Task not found",
+                "Unknown action: archive",
+                "data is required",
+                "Assignee not found",
+                "Label not found",
+                "Task with this name already exists",
+                "Task with this name already exists");
+
+        var createdId = results.get(0).get("id").asLong();
+        assertThat(taskRepository.findById(createdId)).isPresent();
+        assertThat(taskRepository.findById(updated.getId()).get().getName()).isEqualTo("batch title");
+        assertThat(taskRepository.findById(deleted.getId())).isEmpty();
+    }
+
+    @Test
+    public void testUpdateWithIfMatch() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var path = "/api/tasks/" + task.getId();
+
+        var etag = mockMvc.perform(get(path).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        var request = put(path)
+                .with(token)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("title", "first title")));
+        var newEtag = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotNull().isNotEqualTo(etag);
+
+        var staleRequest = put(path)
+                .with(token)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("title", "second title")));
+        mockMvc.perform(staleRequest)
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(taskRepository.findById(task.getId()).get().getName()).isEqualTo("first title");
+
+        mockMvc.perform(get(path).with(token).header(HttpHeaders.IF_NONE_MATCH, newEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testUpdateWithIfMatchList() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var path = "/api/tasks/" + task.getId();
+
+        var etag = mockMvc.perform(get(path).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(updateRequest(path, "\"" + task.getVersion() + "\"", "bare version"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(updateRequest(path, "W/" + etag, "weak tag"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(updateRequest(path, "\"" + MISSING_ID + "-other\", " + etag, "listed title"))
+                .andExpect(status().isOk());
+        mockMvc.perform(updateRequest(path, "*", "any title"))
+                .andExpect(status().isOk());
+
+        assertThat(taskRepository.findById(task.getId()).get().getName()).isEqualTo("any title");
+    }
+
+    @Test
+    public void testUpdateRetriesAfterConflict() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var path = "/api/tasks/" + task.getId();
+
+        conflictingTaskMapper.conflict(1);
+        mockMvc.perform(updateRequest(path, null, "retried title"))
+                .andExpect(status().isOk());
+
+        assertThat(conflictingTaskMapper.getUpdates()).isEqualTo(2);
+        assertThat(taskRepository.findById(task.getId()).get().getName()).isEqualTo("retried title");
+    }
+
+    @Test
+    public void testUpdateConflictsWhenRetriesRunOut() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var path = "/api/tasks/" + task.getId();
+
+        conflictingTaskMapper.conflict(TaskService.MAX_UPDATE_ATTEMPTS);
+        mockMvc.perform(updateRequest(path, null, "lost title"))
+                .andExpect(status().isConflict());
+
+        assertThat(conflictingTaskMapper.getUpdates()).isEqualTo(TaskService.MAX_UPDATE_ATTEMPTS);
+        assertThat(taskRepository.findById(task.getId()).get().getName()).isEqualTo(task.getName());
+    }
+
+    @Test
+    public void testUpdateWithIfMatchIsNotRetried() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var path = "/api/tasks/" + task.getId();
+
+        var etag = mockMvc.perform(get(path).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        conflictingTaskMapper.conflict(1);
+        mockMvc.perform(updateRequest(path, etag, "conflicting title"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(conflictingTaskMapper.getUpdates()).isEqualTo(1);
+        assertThat(taskRepository.findById(task.getId()).get().getName()).isEqualTo(task.getName());
+    }
+
+    @Test
+    public void testChangesAreDispatchedThroughOutbox() throws Exception {
+        outboxSink.clear();
+        var task = testUtils.generateTask();
+        var data = new HashMap<>();
+        data.put("title", task.getName());
+        data.put("status", task.getTaskStatus().getSlug());
+
+        var body = mockMvc.perform(post("/api/tasks")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        var id = om.readTree(body).get("id").asLong();
+
+        mockMvc.perform(put("/api/tasks/" + id)
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("title", "outbox title"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/" + id).with(token))
+                .andExpect(status().isNoContent());
+
+        outboxDispatcher.dispatchAll();
+
+        var taskEvents = outboxSink.getEvents().stream()
+                .filter(event -> event.aggregateType().equals(Task.class.getSimpleName()))
+                .filter(event -> event.aggregateId() == id)
+                .map(OutboxEvent::eventType)
+                .toList();
+        assertThat(taskEvents).containsExactly(OutboxListener.CREATED, OutboxListener.UPDATED, OutboxListener.DELETED);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    public void testRolledBackWriteLeavesNoOutboxEvent() {
+        var task = testUtils.generateTask();
+        outboxDispatcher.dispatchAll();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.saveAndFlush(task);
+            assertThat(outboxRepository.count()).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    public void testFailingSinkKeepsOutboxEvents() {
+        var task = testUtils.generateTask();
+        outboxDispatcher.dispatchAll();
+        outboxSink.clear();
+        var failures = meterRegistry.get("outbox.failures").functionCounter();
+        var failuresBefore = failures.count();
+
+        outboxSink.setFailing(true);
+        try {
+            taskRepository.save(task);
+            assertThatThrownBy(outboxDispatcher::dispatchAll).isInstanceOf(IllegalStateException.class);
+            assertThat(outboxRepository.count()).isEqualTo(1);
+            assertThat(failures.count()).isGreaterThan(failuresBefore);
+        } finally {
+            outboxSink.setFailing(false);
+        }
+
+        outboxDispatcher.dispatchAll();
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(outboxSink.getEvents())
+                .anyMatch(event -> event.aggregateId() == task.getId().longValue());
+    }
+
+    @Test
+    public void testBoard() throws Exception {
+        var first = testUtils.generateTask();
+        first.setIndex((long) BOARD_TASKS);
+        taskRepository.save(first);
+        var firstLabel = first.getLabels().iterator().next();
+        var secondLabel = testUtils.generateLabel();
+        secondLabel.setName(firstLabel.getName() + " second");
+        labelRepository.save(secondLabel);
+        for (var i = 1; i < BOARD_TASKS; i++) {
+            var task = new Task();
+            task.setName(first.getName() + " " + i);
+            task.setIndex((long) BOARD_TASKS - i);
+            task.setTaskStatus(first.getTaskStatus());
+            if (i == 1) {
+                task.setLabels(new HashSet<>(List.of(firstLabel, secondLabel)));
+            }
+            taskRepository.save(task);
+        }
+        var other = testUtils.generateTask();
+        taskRepository.save(other);
+
+        var request = get("/api/tasks/board?perStatus=" + BOARD_PER_STATUS).with(token);
+        var body = queryCounter.perform(mockMvc, request, BOARD_QUERY_BUDGET)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var columns = new HashMap<String, JsonNode>();
+        om.readTree(body).forEach(column -> columns.put(column.get("status").asText(), column));
+
+        var firstColumn = columns.get(first.getTaskStatus().getSlug());
+        assertThat(firstColumn.get("count").asLong()).isEqualTo(BOARD_TASKS);
+        assertThat(firstColumn.get("tasks").findValuesAsText("index")).containsExactly("1", "2");
+
+        var otherColumn = columns.get(other.getTaskStatus().getSlug());
+        assertThat(otherColumn.get("count").asLong()).isEqualTo(1);
+        assertThat(otherColumn.get("tasks").get(0).get("id").asLong()).isEqualTo(other.getId());
+
+        var byLabel = boardColumns("labelId=" + firstLabel.getId());
+        var labelColumn = byLabel.get(first.getTaskStatus().getSlug());
+        assertThat(labelColumn.get("count").asLong()).isEqualTo(2);
+        assertThat(labelColumn.get("tasks").findValuesAsText("index")).containsExactly("2", "3");
+        assertThat(byLabel.get(other.getTaskStatus().getSlug()).get("count").asLong()).isZero();
+
+        var byAllLabels = boardColumns("labelMatch=all&labelIds=" + firstLabel.getId() + "," + secondLabel.getId());
+        var allLabelsColumn = byAllLabels.get(first.getTaskStatus().getSlug());
+        assertThat(allLabelsColumn.get("count").asLong()).isEqualTo(1);
+        assertThat(allLabelsColumn.get("tasks").findValuesAsText("index")).containsExactly("2");
+        assertThat(byAllLabels.get(other.getTaskStatus().getSlug()).get("count").asLong()).isZero();
+    }
+
+    private Map<String, JsonNode> boardColumns(String filter) throws Exception {
+        var body = mockMvc.perform(get("/api/tasks/board?perStatus=" + BOARD_PER_STATUS + "&" + filter).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        var columns = new HashMap<String, JsonNode>();
+        om.readTree(body).forEach(column -> columns.put(column.get("status").asText(), column));
+        return columns;
+    }
+
+    @Test
+    public void testStreamPushesMatchingChanges() throws Exception {
+        var task = testUtils.generateTask();
+        taskRepository.save(task);
+        var other = testUtils.generateTask();
+        taskRepository.save(other);
+
+        var stream = mockMvc.perform(get("/api/tasks/stream?status=" + task.getTaskStatus().getSlug()).with(token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        updateTask(other.getId(), Map.of("title", "other stream title"));
+        updateTask(task.getId(), Map.of("title", "stream title"));
+        updateTask(task.getId(), Map.of("status", other.getTaskStatus().getSlug()));
+
+        var content = awaitStreamContent(stream, "event:removed");
+        assertThat(content)
+                .contains("event:updated", "\"title\":\"stream title\"", "\"version\":" + (task.getVersion() + 1))
+                .contains("event:removed", "\"version\":" + (task.getVersion() + 2))
+                .doesNotContain("other stream title");
+    }
+
+    private MockHttpServletRequestBuilder updateRequest(String path, String ifMatch, String title)
+            throws Exception {
+        var request = put(path)
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("title", title)));
+        return ifMatch == null ? request : request.header(HttpHeaders.IF_MATCH, ifMatch);
+    }
+
+    private void updateTask(Long id, Map<String, Object> data) throws Exception {
+        mockMvc.perform(put("/api/tasks/" + id)
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isOk());
+    }
+
+    private String awaitStreamContent(MvcResult stream, String expected) throws Exception {
+        var deadline = System.currentTimeMillis() + STREAM_WAIT_MILLIS;
+        var content = stream.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(STREAM_POLL_MILLIS);
+            content = stream.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
     @Test
     public void testDestroy() throws Exception {
         var task = testUtils.generateTask();
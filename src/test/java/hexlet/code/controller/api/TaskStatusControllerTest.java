@@ -165,6 +165,35 @@ public class TaskStatusControllerTest {
         assertThat(taskStatusRepository.findBySlug(taskStatus.getSlug())).get().isEqualTo(taskStatus);
     }
 
+    @Test
+    public void testShowAfterUpdate() throws Exception {
+        var taskStatus = testUtils.generateTaskStatus();
+        taskStatusRepository.save(taskStatus);
+
+        mockMvc.perform(get("/api/task_statuses/" + taskStatus.getId()).with(token))
+                .andExpect(status().isOk());
+
+        var newName = "Updated name";
+
+        var data = new HashMap<>();
+        data.put("name", newName);
+
+        var request = put("/api/task_statuses/" + taskStatus.getId())
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        var result = mockMvc.perform(get("/api/task_statuses/" + taskStatus.getId()).with(token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).node("name").isEqualTo(newName);
+    }
+
     @Test
     public void testUpdateWithoutAuthorization() throws Exception {
         var taskStatus = testUtils.generateTaskStatus();
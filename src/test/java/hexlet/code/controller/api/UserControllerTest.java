@@ -13,18 +13,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.core.type.TypeReference;
 import hexlet.code.model.User;
 import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.JWTUtils;
 import hexlet.code.util.UserUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.util.QueryCounter;
 import hexlet.code.util.TestUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.HashMap;
@@ -34,6 +38,11 @@ import java.util.List;
 @AutoConfigureMockMvc
 public class UserControllerTest {
 
+    private static final int BUDGET_USERS = 5;
+
+    // Includes the stamp lookup behind the ETag
+    private static final int INDEX_QUERY_BUDGET = 3;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -49,6 +58,12 @@ public class UserControllerTest {
     @Autowired
     private TestUtils testUtils;
 
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     private JwtRequestPostProcessor token;
 
     @BeforeEach
@@ -77,6 +92,60 @@ public class UserControllerTest {
         assertThat(users).containsAll(expected);
     }
 
+    @Test
+    public void testIndexWithinQueryBudget() throws Exception {
+        for (var i = 0; i < BUDGET_USERS; i++) {
+            userRepository.save(testUtils.generateUser());
+        }
+
+        queryCounter.perform(mockMvc, get("/api/users").with(token), INDEX_QUERY_BUDGET)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testIndexNotModified() throws Exception {
+        var user = testUtils.generateUser();
+        userRepository.save(user);
+
+        var etag = mockMvc.perform(get("/api/users").with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/users").with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        userRepository.deleteById(user.getId());
+
+        mockMvc.perform(get("/api/users").with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testShowNotModified() throws Exception {
+        var user = testUtils.generateUser();
+        userRepository.save(user);
+        var path = "/api/users/" + user.getId();
+
+        var etag = mockMvc.perform(get(path).with(token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"" + user.getVersion() + "-");
+
+        mockMvc.perform(get(path).with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        user.setFirstName(user.getFirstName() + " changed");
+        userRepository.save(user);
+
+        mockMvc.perform(get(path).with(token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void testShow() throws Exception {
         var user = testUtils.generateUser();
@@ -135,18 +204,20 @@ public class UserControllerTest {
     @Test
     public void testUpdate() throws Exception {
         var user = testUtils.generateUser();
-        var userPassword = user.getPassword();
         userRepository.save(user);
 
         var oldEmail = user.getEmail();
         var newEmail = "new@gmail.com";
         var newName = "Elisa";
+        var newPassword = "newPassword";
 
-        token = jwt().jwt(builder -> builder.subject(oldEmail));
+        var userId = user.getId();
+        token = jwt().jwt(builder -> builder.subject(oldEmail).claim(JWTUtils.USER_ID_CLAIM, userId));
 
         var data = new HashMap<>();
         data.put("email", newEmail);
         data.put("firstName", newName);
+        data.put("password", newPassword);
 
         var request = put("/api/users/" + user.getId())
                 .with(token)
@@ -164,7 +235,32 @@ public class UserControllerTest {
         assertThat(userRepository.findByEmail(newEmail).get()).isEqualTo(user);
 
         var userHashedPassword = user.getPassword();
-        assertThat(userPassword).isNotEqualTo(userHashedPassword);
+        assertThat(userHashedPassword).isNotEqualTo(newPassword);
+        assertThat(passwordEncoder.matches(newPassword, userHashedPassword)).isTrue();
+    }
+
+    @Test
+    public void testUpdateWithoutPasswordKeepsHash() throws Exception {
+        var user = testUtils.generateUser();
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        userRepository.save(user);
+
+        var hashedPassword = user.getPassword();
+        var userId = user.getId();
+        token = jwt().jwt(builder -> builder.subject(user.getEmail()).claim(JWTUtils.USER_ID_CLAIM, userId));
+
+        var data = new HashMap<>();
+        data.put("firstName", "Elisa");
+
+        var request = put("/api/users/" + userId)
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        assertThat(userRepository.findById(userId).get().getPassword()).isEqualTo(hashedPassword);
     }
 
     @Test
@@ -194,7 +290,7 @@ public class UserControllerTest {
     public void testDestroy() throws Exception {
         var user = testUtils.generateUser();
         userRepository.save(user);
-        token = jwt().jwt(builder -> builder.subject(user.getEmail()));
+        token = jwt().jwt(builder -> builder.subject(user.getEmail()).claim(JWTUtils.USER_ID_CLAIM, user.getId()));
 
         mockMvc.perform(delete("/api/users/" + user.getId()).with(token))
                 .andExpect(status().isNoContent());
@@ -213,13 +309,29 @@ public class UserControllerTest {
         assertThat(userRepository.findById(user.getId())).isPresent();
     }
 
+    @Test
+    public void testDestroyWithForeignUserIdClaim() throws Exception {
+        var user = testUtils.generateUser();
+        userRepository.save(user);
+        var anotherUser = testUtils.generateUser();
+        userRepository.save(anotherUser);
+
+        token = jwt().jwt(builder -> builder.subject(user.getEmail())
+                .claim(JWTUtils.USER_ID_CLAIM, anotherUser.getId()));
+
+        mockMvc.perform(delete("/api/users/" + user.getId()).with(token))
+                .andExpect(status().isInternalServerError());
+
+        assertThat(userRepository.findById(user.getId())).isPresent();
+    }
+
     @Test
     public void testDestroyButUserHasTasks() throws Exception {
         var task = testUtils.generateTask();
         taskRepository.save(task);
 
         var user = task.getAssignee();
-        token = jwt().jwt(builder -> builder.subject(user.getEmail()));
+        token = jwt().jwt(builder -> builder.subject(user.getEmail()).claim(JWTUtils.USER_ID_CLAIM, user.getId()));
 
         mockMvc.perform(delete("/api/users/" + user.getId()).with(token))
                 .andExpect(status().isInternalServerError());
@@ -0,0 +1,43 @@
+package hexlet.code.util;
+
+import hexlet.code.dto.taskDto.TaskUpdateDTO;
+import hexlet.code.mapper.TaskMapperImpl;
+import hexlet.code.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Bumps the task row while an update is being applied, as a concurrent writer would,
+// so tests can make the optimistic version check fail a chosen number of times
+@Primary
+@Component
+public class ConflictingTaskMapper extends TaskMapperImpl {
+
+    private final AtomicInteger conflicts = new AtomicInteger();
+
+    private final AtomicInteger updates = new AtomicInteger();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void conflict(int times) {
+        conflicts.set(times);
+        updates.set(0);
+    }
+
+    public int getUpdates() {
+        return updates.get();
+    }
+
+    @Override
+    public void update(TaskUpdateDTO dto, Task model) {
+        super.update(dto, model);
+        updates.incrementAndGet();
+        if (conflicts.getAndUpdate(left -> Math.max(left - 1, 0)) > 0) {
+            jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id = ?", model.getId());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package hexlet.code.util;
+
+import hexlet.code.component.PasswordHashingProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CountDownLatch;
+
+// A one-thread, one-slot hashing pool whose work can be held, so tests can saturate it deterministically
+@Primary
+@Component
+public class GatedPasswordEncoder extends BoundedPasswordEncoder {
+
+    private final Gate gate;
+
+    @Autowired
+    public GatedPasswordEncoder(PasswordHashingProperties properties) {
+        this(new Gate(new BCryptPasswordEncoder(properties.getStrength())), properties);
+    }
+
+    private GatedPasswordEncoder(Gate gate, PasswordHashingProperties properties) {
+        super(gate, 1, 1, properties.getTimeout(), properties.getRetryAfter());
+        this.gate = gate;
+    }
+
+    public void hold() {
+        gate.latch = new CountDownLatch(1);
+    }
+
+    public void release() {
+        gate.latch.countDown();
+    }
+
+    private static final class Gate implements PasswordEncoder {
+
+        private final PasswordEncoder delegate;
+
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+
+        private Gate(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        private void await() {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package hexlet.code.util;
+
+import hexlet.code.component.OutboxSink;
+import hexlet.code.dto.OutboxEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Primary
+@Component
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile boolean failing;
+
+    @Override
+    public void publish(List<OutboxEvent> batch) throws IOException {
+        if (failing) {
+            throw new IOException("Sink is unavailable");
+        }
+        events.addAll(batch);
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    public List<OutboxEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public void clear() {
+        events.clear();
+    }
+}
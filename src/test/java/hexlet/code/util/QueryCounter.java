@@ -0,0 +1,66 @@
+package hexlet.code.util;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+public class QueryCounter implements QueryExecutionListener {
+
+    private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile boolean recording;
+
+    private volatile List<String> lastStatements = List.of();
+
+    public List<String> getLastStatements() {
+        return lastStatements;
+    }
+
+    public ResultActions perform(MockMvc mockMvc, RequestBuilder request, int maxStatements) throws Exception {
+        statements.clear();
+        recording = true;
+        ResultActions result;
+        try {
+            result = mockMvc.perform(request);
+        } finally {
+            recording = false;
+        }
+
+        var executed = List.copyOf(statements);
+        lastStatements = executed;
+        if (executed.size() > maxStatements) {
+            throw new AssertionError(String.format(
+                    "Expected at most %d SQL statements but %d were executed:%n%s",
+                    maxStatements,
+                    executed.size(),
+                    String.join(System.lineSeparator(), executed)));
+        }
+        return result;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!recording) {
+            return;
+        }
+        for (var queryInfo : queryInfoList) {
+            var query = execInfo.isBatch()
+                    ? queryInfo.getQuery() + " [batch of " + execInfo.getBatchSize() + "]"
+                    : queryInfo.getQuery();
+            statements.add(query);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskCountService;
 import net.datafaker.Faker;
 import org.instancio.Instancio;
 import org.instancio.Select;
@@ -45,12 +46,16 @@ public class TestUtils {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskCountService taskCountService;
+
     @Bean
     public User generateUser() {
         return Instancio.of(User.class)
                 .ignore(Select.field(User::getId))
                 .ignore(Select.field(User::getCreatedAt))
                 .ignore(Select.field(User::getUpdatedAt))
+                .ignore(Select.field(User::getVersion))
                 .supply(Select.field(User::getFirstName), () -> faker.name().firstName())
                 .supply(Select.field(User::getLastName), () -> faker.name().lastName())
                 .supply(Select.field(User::getEmail), () -> faker.internet().emailAddress())
@@ -64,6 +69,8 @@ public class TestUtils {
         return Instancio.of(TaskStatus.class)
                 .ignore(Select.field(TaskStatus::getId))
                 .ignore(Select.field(TaskStatus::getCreatedAt))
+                .ignore(Select.field(TaskStatus::getUpdatedAt))
+                .ignore(Select.field(TaskStatus::getVersion))
                 .supply(Select.field(TaskStatus::getSlug), () -> slugAndName)
                 .supply(Select.field(TaskStatus::getName), () -> slugAndName)
                 .create();
@@ -74,6 +81,8 @@ public class TestUtils {
         return Instancio.of(Label.class)
                 .ignore(Select.field(Label::getId))
                 .ignore(Select.field(Label::getCreatedAt))
+                .ignore(Select.field(Label::getUpdatedAt))
+                .ignore(Select.field(Label::getVersion))
                 .supply(Select.field(Label::getName), () -> faker.lorem().word())
                 .supply(Select.field(Label::getTasks), () -> new ArrayList<Task>())
                 .create();
@@ -84,6 +93,10 @@ public class TestUtils {
         var task = Instancio.of(Task.class)
                 .ignore(Select.field(Task::getId))
                 .ignore(Select.field(Task::getCreatedAt))
+                .ignore(Select.field(Task::getUpdatedAt))
+                .ignore(Select.field(Task::getVersion))
+                .ignore(Select.field(Task::getStoredAssigneeId))
+                .ignore(Select.field(Task::getStoredStatusId))
                 .ignore(Select.field(Task::getAssignee))
                 .ignore(Select.field(Task::getTaskStatus))
                 .supply(Select.field(Task::getName), () -> faker.lorem().word())
@@ -114,5 +127,6 @@ public class TestUtils {
         userRepository.deleteAll();
         taskStatusRepository.deleteAll();
         labelRepository.deleteAll();
+        taskCountService.invalidate();
     }
 }
@@ -0,0 +1,99 @@
+package hexlet.code.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimeOrderedIdFactoryTest {
+
+    private static final int NODE = 7;
+
+    private static final int IDS_PER_MILLISECOND = 1 << TimeOrderedIdFactory.COUNTER_BITS;
+
+    private static final long BACKWARDS_MILLIS = 5000;
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    private final TimeOrderedIdFactory factory = new TimeOrderedIdFactory(NODE, clock);
+
+    @Test
+    public void testIdsWithinOneMillisecondIncrease() {
+        var previous = factory.next();
+        for (var i = 1; i < IDS_PER_MILLISECOND; i++) {
+            var id = factory.next();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(timestampOf(id)).isEqualTo(timestampOf(previous));
+            assertThat(nodeOf(id)).isEqualTo(NODE);
+            previous = id;
+        }
+    }
+
+    @Test
+    public void testExhaustedCounterMovesToNextMillisecond() {
+        var first = factory.next();
+        var last = first;
+        for (var i = 1; i < IDS_PER_MILLISECOND; i++) {
+            last = factory.next();
+        }
+
+        var overflow = factory.next();
+
+        assertThat(timestampOf(last)).isEqualTo(timestampOf(first));
+        assertThat(timestampOf(overflow)).isEqualTo(timestampOf(first) + 1);
+        assertThat(overflow).isGreaterThan(last);
+    }
+
+    @Test
+    public void testClockMovingBackwardsKeepsIdsIncreasing() {
+        var before = factory.next();
+
+        clock.setInstant(NOW.minusMillis(BACKWARDS_MILLIS));
+        var after = factory.next();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(timestampOf(after)).isEqualTo(timestampOf(before));
+    }
+
+    private static long timestampOf(long id) {
+        return id >>> (TimeOrderedIdFactory.NODE_BITS + TimeOrderedIdFactory.COUNTER_BITS);
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> TimeOrderedIdFactory.COUNTER_BITS) & TimeOrderedIdFactory.MAX_NODE;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void setInstant(Instant value) {
+            this.instant = value;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}